@@ -0,0 +1,154 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.blackwhitedeliverydriver.entity.AI;
+import com.sparta.blackwhitedeliverydriver.repository.AIRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+// 같은 질문에 대한 Gemini 응답 캐시 (크기 제한 + TTL)
+// 키는 공백/대소문자를 정규화한 질문과 질문 뒤에 붙이는 지시문의 해시로 만든다. 지시문이 바뀌면 이전 응답은 쓰지 않는다.
+// 응답 대기 중인 요청도 캐시에 올려 두어, 같은 질문이 동시에 들어오면 Gemini 호출 1건의 결과를 함께 기다린다. (실패한 호출은 캐시에서 빠짐)
+@Slf4j(topic = "AIResponseCache")
+@Component
+public class AIResponseCache {
+
+    private final AIRepository aiRepository;
+    private final AsyncCache<String, String> cache;
+    private final Counter coalescedCounter;
+    private final Duration ttl;
+    private final boolean warmLoad;
+    private final int warmLoadSize;
+
+    public AIResponseCache(AIRepository aiRepository, MeterRegistry meterRegistry,
+                           @Value("${ai.cache.max-size:10000}") long maxSize,
+                           @Value("${ai.cache.ttl-seconds:86400}") long ttlSeconds,
+                           @Value("${ai.cache.warm-load:false}") boolean warmLoad,
+                           @Value("${ai.cache.warm-load-size:1000}") int warmLoadSize) {
+        this.aiRepository = aiRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.warmLoad = warmLoad;
+        this.warmLoadSize = warmLoadSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.response.cache");
+        this.coalescedCounter = Counter.builder("ai.response.cache.coalesced")
+                .description("진행 중인 같은 질문의 Gemini 호출 결과를 함께 기다린 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 캐시된 응답 또는 진행 중인 같은 질문의 응답을 사용하고, 둘 다 없으면 요청 스레드에서 loader 로 Gemini 호출
+    public String get(String prompt, String suffix, Supplier<String> loader) {
+        String key = key(prompt, suffix);
+        CompletableFuture<String> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return await(cached);
+        }
+
+        CompletableFuture<String> loading = new CompletableFuture<>();
+        CompletableFuture<String> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            String answer = loader.get();
+            loading.complete(answer);
+            return answer;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 스트리밍 응답용 비동기 조회. 캐시된 응답이나 진행 중인 같은 질문이 있으면 그 future 를, 없으면 loader 가 시작한 호출의 결과를 반환
+    public CompletableFuture<String> getAsync(String prompt, String suffix, Supplier<CompletableFuture<String>> loader) {
+        String key = key(prompt, suffix);
+        CompletableFuture<String> loading = new CompletableFuture<>();
+        CompletableFuture<String> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            if (!existing.isDone()) {
+                coalescedCounter.increment();
+            }
+            return existing;
+        }
+
+        try {
+            loader.get().whenComplete((answer, throwable) -> {
+                if (throwable != null) {
+                    loading.completeExceptionally(throwable);
+                } else {
+                    loading.complete(answer);
+                }
+            });
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+        }
+        return loading;
+    }
+
+    // 이미 받은 응답만 조회 (진행 중인 호출은 기다리지 않음)
+    public Optional<String> getIfPresent(String prompt, String suffix) {
+        CompletableFuture<String> cached = cache.getIfPresent(key(prompt, suffix));
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.join());
+    }
+
+    public void put(String prompt, String suffix, String answer) {
+        cache.put(key(prompt, suffix), CompletableFuture.completedFuture(answer));
+    }
+
+    // 최근 p_ai 기록으로 캐시 채우기 (TTL 이내 기록만, 같은 질문이면 최신 응답 사용)
+    public void warmUp(String suffix) {
+        if (!warmLoad) {
+            return;
+        }
+
+        List<AI> recentAnswers = aiRepository.findAllByCreatedDateAfter(LocalDateTime.now().minus(ttl),
+                PageRequest.of(0, warmLoadSize, Sort.by(Sort.Direction.DESC, "createdDate")));
+        for (AI ai : recentAnswers) {
+            cache.asMap().putIfAbsent(key(ai.getPrompt(), suffix), CompletableFuture.completedFuture(ai.getAnswer()));
+        }
+        log.info("AI 응답 캐시 적재 완료: {}건", cache.synchronous().estimatedSize());
+    }
+
+    private String await(CompletableFuture<String> answer) {
+        if (!answer.isDone()) {
+            coalescedCounter.increment();
+        }
+        try {
+            return answer.join();
+        } catch (CompletionException e) {
+            // Gemini 호출에서 난 예외를 그대로 전달 (장애 시 503 응답 등)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    static String key(String prompt, String suffix) {
+        String normalizedPrompt = prompt.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return Integer.toHexString(suffix.hashCode()) + ":" + normalizedPrompt;
+    }
+}
@@ -0,0 +1,130 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.sparta.blackwhitedeliverydriver.entity.Category;
+import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// p_category 전체를 메모리에 올려두고 id <-> name 조회를 DB 없이 처리하는 캐시
+// 다른 인스턴스의 변경은 추가된 카테고리는 미적중 시 DB 조회로 바로, 이름 변경/삭제는 주기적 재적재로 반영된다.
+@Slf4j(topic = "CategoryCache")
+@Component
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    // 조회 스레드는 항상 완성된 스냅샷만 보도록 통째로 교체
+    private volatile Snapshot snapshot;
+
+    public CategoryCache(CategoryRepository categoryRepository, MeterRegistry meterRegistry) {
+        this.categoryRepository = categoryRepository;
+        this.hitCounter = Counter.builder("category.cache")
+                .tag("result", "hit")
+                .description("카테고리 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("category.cache")
+                .tag("result", "miss")
+                .description("카테고리 캐시 미적중 횟수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // 미적중이면 다른 인스턴스에서 추가된 카테고리일 수 있으므로 DB 에서 확인하고, 있으면 커밋 후 다시 적재
+    public Optional<UUID> findIdByName(String name) {
+        UUID categoryId = getSnapshot().idByName().get(name);
+        record(categoryId != null);
+        if (categoryId != null) {
+            return Optional.of(categoryId);
+        }
+
+        Optional<UUID> loaded = categoryRepository.findByName(name).map(Category::getCategoryId);
+        loaded.ifPresent(id -> reloadAfterCommit());
+        return loaded;
+    }
+
+    public Optional<String> findNameById(UUID categoryId) {
+        String name = getSnapshot().nameById().get(categoryId);
+        record(name != null);
+        if (name != null) {
+            return Optional.of(name);
+        }
+
+        Optional<String> loaded = categoryRepository.findById(categoryId).map(Category::getName);
+        loaded.ifPresent(categoryName -> reloadAfterCommit());
+        return loaded;
+    }
+
+    // 카테고리 변경 트랜잭션이 커밋된 뒤에 다시 적재 (롤백 시에는 기존 스냅샷 유지)
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    // 다른 인스턴스에서 이름이 바뀌거나 삭제된 카테고리도 주기적으로 반영
+    @Scheduled(fixedDelayString = "${category.cache.reload-interval-ms:60000}",
+            initialDelayString = "${category.cache.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        List<Category> categories = categoryRepository.findAll();
+        Map<UUID, String> nameById = new HashMap<>();
+        Map<String, UUID> idByName = new HashMap<>();
+        for (Category category : categories) {
+            nameById.put(category.getCategoryId(), category.getName());
+            idByName.put(category.getName(), category.getCategoryId());
+        }
+
+        snapshot = new Snapshot(Map.copyOf(nameById), Map.copyOf(idByName));
+        log.info("카테고리 캐시 적재 완료: {}건", categories.size());
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 기동 이벤트 이전에 호출된 경우 최초 1회만 읽어온다
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private void record(boolean hit) {
+        if (hit) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+    }
+
+    private record Snapshot(Map<UUID, String> nameById, Map<String, UUID> idByName) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+// 더 이상 바뀌지 않는 상태(완료/취소 주문, 환불/정산된 결제)의 상세 조회 응답을 직렬화된 JSON 으로 보관하는 캐시 (크기 제한)
+// 값이 바뀌지 않으므로 TTL 없이 두고 크기 제한으로만 밀어낸다. 소유자 확인은 캐시 적중 시에도 서비스에서 한다.
+// 주문 삭제(OrderStateMachine.softDelete)는 CREATE, PENDING 주문만 가능해 캐시된 주문은 삭제되지 않으므로 따로 제거하지 않는다.
+// 완료/취소 주문을 삭제할 수 있게 바꾸면 삭제 트랜잭션 커밋 후 해당 주문과 결제 응답을 제거해야 한다.
+@Component
+public class DetailResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, Entry> orders;
+    private final Cache<UUID, Entry> pays;
+
+    public DetailResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               @Value("${detail.cache.max-size:10000}") long maxSize) {
+        this.objectMapper = objectMapper;
+        this.orders = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.pays = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, orders, "order.detail.cache");
+        CaffeineCacheMetrics.monitor(meterRegistry, pays, "pay.detail.cache");
+    }
+
+    public Optional<Entry> getOrder(UUID orderId) {
+        return Optional.ofNullable(orders.getIfPresent(orderId));
+    }
+
+    public Optional<Entry> getPay(UUID payId) {
+        return Optional.ofNullable(pays.getIfPresent(payId));
+    }
+
+    // 직렬화만 하고 캐시에는 넣지 않음 (아직 상태가 바뀔 수 있는 응답)
+    public Entry serialize(String username, Object response) {
+        return Entry.of(objectMapper, username, response);
+    }
+
+    public Entry putOrder(UUID orderId, String username, Object response) {
+        Entry entry = serialize(username, response);
+        orders.put(orderId, entry);
+        return entry;
+    }
+
+    public Entry putPay(UUID payId, String username, Object response) {
+        Entry entry = serialize(username, response);
+        pays.put(payId, entry);
+        return entry;
+    }
+
+    // 응답 본문과 그 해시로 만든 ETag. username 은 캐시 적중 시 소유자 확인용
+    public record Entry(String username, byte[] body, String etag) {
+        public static Entry of(ObjectMapper objectMapper, String username, Object response) {
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(response);
+                return new Entry(username, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+// 점포 메뉴(음식 목록) 조회 응답을 직렬화된 JSON 으로 보관하는 캐시 (크기 제한)
+// 키에 점포의 메뉴 버전이 들어 있어 음식이 등록/수정/삭제되면 새 키로 조회되고, 이전 버전의 응답은 크기 제한으로 밀려난다.
+@Component
+public class MenuCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Entry> menus;
+
+    public MenuCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                     @Value("${menu.cache.max-size:10000}") long maxSize) {
+        this.objectMapper = objectMapper;
+        this.menus = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, menus, "menu.cache");
+    }
+
+    // 같은 키를 동시에 조회하면 loader 는 한 번만 실행됨
+    public Entry get(UUID storeId, long menuVersion, Pageable pageable, Supplier<Object> loader) {
+        return menus.get(new Key(storeId, menuVersion, pageable), key -> Entry.of(objectMapper, loader.get()));
+    }
+
+    private record Key(UUID storeId, long menuVersion, Pageable pageable) {
+    }
+
+    // 응답 본문과 그 해시로 만든 ETag
+    public record Entry(byte[] body, String etag) {
+        public static Entry of(ObjectMapper objectMapper, Object response) {
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(response);
+                return new Entry(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
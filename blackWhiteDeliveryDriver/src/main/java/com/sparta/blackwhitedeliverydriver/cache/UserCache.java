@@ -0,0 +1,61 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 조회 전용 흐름에서 로그인 사용자의 권한/탈퇴 여부 확인에 쓰는 사용자 캐시 (크기 제한 + TTL)
+// 캐시된 User 는 준영속 상태이므로 값 확인과 조회 조건으로만 사용하고, 수정이나 지연 로딩 연관관계(주소) 접근은 하지 않는다.
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+
+    public UserCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                     @Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.cache");
+    }
+
+    public Optional<User> findByUsername(String username) {
+        User user = cache.getIfPresent(username);
+        if (user != null) {
+            return Optional.of(user);
+        }
+
+        Optional<User> loaded = userRepository.findById(username);
+        loaded.ifPresent(value -> cache.put(username, value));
+        return loaded;
+    }
+
+    // 사용자 수정/탈퇴 트랜잭션이 커밋된 뒤에 제거 (커밋 전에 제거하면 다른 요청이 이전 값을 다시 적재할 수 있음)
+    public void evictAfterCommit(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(username);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(username);
+            }
+        });
+    }
+}
@@ -0,0 +1,255 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+// Gemini API 호출 전용 클라이언트
+@Slf4j(topic = "GeminiClient")
+@Component
+public class GeminiClient {
+    private static final String AI_REQUEST_PATH = "/v1beta/models/gemini-1.5-flash-latest:generateContent";
+    private static final String AI_STREAM_REQUEST_PATH = "/v1beta/models/gemini-1.5-flash-latest:streamGenerateContent";
+    private static final String SSE_DATA_PREFIX = "data:";
+
+    private final RestTemplate restTemplate;
+    // 스트리밍 응답은 요청 스레드를 잡지 않도록 비동기 HTTP 클라이언트로 받음
+    private final HttpClient streamingHttpClient;
+    private final MeterRegistry meterRegistry;
+    private final UpstreamGuard upstreamGuard;
+    private final RateLimiter rateLimiter;
+    private final Timer rateLimiterWaitTimer;
+    private final String geminiApiKey;
+    private final String baseUri;
+    private final long readTimeoutMs;
+
+    public GeminiClient(RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry,
+                        @Qualifier("geminiGuard") UpstreamGuard upstreamGuard,
+                        @Qualifier("geminiRateLimiter") RateLimiter rateLimiter,
+                        @Value("${gemini.api.key}") String geminiApiKey,
+                        @Value("${ai.client.base-uri:https://generativelanguage.googleapis.com}") String baseUri,
+                        @Value("${ai.client.connect-timeout-ms:3000}") long connectTimeoutMs,
+                        @Value("${ai.client.read-timeout-ms:15000}") long readTimeoutMs) {
+        // 응답을 무한정 기다리지 않도록 타임아웃 설정 (bulkhead 자리를 오래 잡고 있지 않게)
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+        this.streamingHttpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        this.readTimeoutMs = readTimeoutMs;
+        this.meterRegistry = meterRegistry;
+        this.upstreamGuard = upstreamGuard;
+        this.rateLimiter = rateLimiter;
+        this.rateLimiterWaitTimer = Timer.builder("gemini.client.rate-limiter.wait")
+                .description("Gemini 호출 권한을 얻기까지 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.geminiApiKey = geminiApiKey;
+        this.baseUri = baseUri;
+    }
+
+    // generateContent 응답 본문(JSON) 반환
+    public String generateContent(Map<String, Object> requestBody) {
+        RequestEntity<Map<String, Object>> requestEntity = RequestEntity.post(buildUri())
+                .body(requestBody);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            acquirePermission();
+            ResponseEntity<String> responseEntity = upstreamGuard.call(
+                    () -> restTemplate.exchange(requestEntity, String.class));
+            outcome = "success";
+            return responseEntity.getBody();
+        } catch (UpstreamUnavailableException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("Gemini 요청 실패: {}", e.getMessage());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("gemini.client.requests")
+                    .description("Gemini API 호출 시간")
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    // streamGenerateContent 응답을 받는 대로 조각 텍스트를 onText 로 전달. 응답이 모두 끝나면 완료되는 future 반환
+    // 호출 권한은 기다리지 않고 예약해서 순서가 되면 요청을 보낸다.
+    public CompletableFuture<Void> streamGenerateContent(Map<String, Object> requestBody, Consumer<String> onText) {
+        long waitNanos = rateLimiter.reservePermission();
+        if (waitNanos < 0) {
+            return CompletableFuture.failedFuture(
+                    new UpstreamUnavailableException(UpstreamExceptionMessage.AI_RATE_LIMITED.getMessage()));
+        }
+        rateLimiterWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+
+        HttpRequest request = HttpRequest.newBuilder(buildUri(AI_STREAM_REQUEST_PATH, true))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(new JSONObject(requestBody).toString()))
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Executor delayed = CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS);
+        return CompletableFuture.supplyAsync(() -> null, delayed)
+                .thenCompose(ignored -> upstreamGuard.callAsync(() -> stream(request, onText)))
+                .whenComplete((ignored, throwable) -> sample.stop(Timer.builder("gemini.client.stream")
+                        .description("Gemini 스트리밍 응답 전체 시간")
+                        .tag("outcome", outcome(throwable))
+                        .register(meterRegistry)));
+    }
+
+    private CompletableFuture<Void> stream(HttpRequest request, Consumer<String> onText) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        StreamSubscriber subscriber = new StreamSubscriber(onText, result);
+        streamingHttpClient.sendAsync(request, responseInfo -> {
+                    if (responseInfo.statusCode() / 100 == 2) {
+                        return HttpResponse.BodySubscribers.fromLineSubscriber(subscriber);
+                    }
+                    return HttpResponse.BodySubscribers.replacing(null);
+                })
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else if (response.statusCode() / 100 != 2) {
+                        result.completeExceptionally(statusException(response.statusCode()));
+                    } else {
+                        result.complete(null);
+                    }
+                });
+        return result;
+    }
+
+    // 할당량을 넘기지 않도록 호출 권한을 기다림 (bulkhead 자리를 잡기 전에 기다려서 다른 호출을 막지 않도록)
+    private void acquirePermission() {
+        long start = System.nanoTime();
+        boolean permitted = rateLimiter.acquirePermission();
+        rateLimiterWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!permitted) {
+            throw new UpstreamUnavailableException(UpstreamExceptionMessage.AI_RATE_LIMITED.getMessage());
+        }
+    }
+
+    private URI buildUri() {
+        return buildUri(AI_REQUEST_PATH, false);
+    }
+
+    private URI buildUri(String path, boolean sse) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUri)
+                .path(path);
+        if (sse) {
+            builder.queryParam("alt", "sse");
+        }
+        return builder.queryParam("key", geminiApiKey)
+                .encode()
+                .build()
+                .toUri();
+    }
+
+    // 4xx 는 circuit breaker 실패로 세지 않도록 RestTemplate 과 같은 예외 종류로 변환
+    private static RuntimeException statusException(int statusCode) {
+        String message = "Gemini 스트리밍 응답 오류";
+        if (statusCode / 100 == 4) {
+            return HttpClientErrorException.create(HttpStatusCode.valueOf(statusCode), message, null, null, null);
+        }
+        return HttpServerErrorException.create(HttpStatusCode.valueOf(statusCode), message, null, null, null);
+    }
+
+    private static String outcome(Throwable throwable) {
+        if (throwable == null) {
+            return "success";
+        }
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        return cause instanceof UpstreamUnavailableException ? "rejected" : "error";
+    }
+
+    // SSE 응답의 data 줄마다 첫 번째 후보의 텍스트를 꺼내 전달
+    // 전달 중 예외가 나면 (클라이언트 연결 종료 등) 남은 응답은 받지 않고 구독을 취소한다.
+    private static class StreamSubscriber implements Flow.Subscriber<String> {
+        private final Consumer<String> onText;
+        private final CompletableFuture<Void> result;
+        private Flow.Subscription subscription;
+
+        StreamSubscriber(Consumer<String> onText, CompletableFuture<Void> result) {
+            this.onText = onText;
+            this.result = result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (result.isDone() || !line.startsWith(SSE_DATA_PREFIX)) {
+                return;
+            }
+            try {
+                String text = extractText(line.substring(SSE_DATA_PREFIX.length()).trim());
+                if (!text.isEmpty()) {
+                    onText.accept(text);
+                }
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(null);
+        }
+
+        private static String extractText(String json) {
+            JSONArray candidates = new JSONObject(json).optJSONArray("candidates");
+            if (candidates == null || candidates.isEmpty()) {
+                return "";
+            }
+            JSONObject content = candidates.getJSONObject(0).optJSONObject("content");
+            if (content == null || content.optJSONArray("parts") == null || content.getJSONArray("parts").isEmpty()) {
+                return "";
+            }
+            return content.getJSONArray("parts").getJSONObject(0).optString("text", "");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayReadyResponseDto;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+// 카카오페이 API 호출 전용 클라이언트
+// 요청마다 새 연결(TLS 핸드셰이크 포함)을 맺지 않도록 keep-alive 커넥션 풀을 공유하고, 호출별 지연 시간/실패를 기록한다.
+@Slf4j(topic = "KakaoPayClient")
+@Component
+public class KakaoPayClient implements DisposableBean {
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final UpstreamGuard upstreamGuard;
+    private final String baseUri;
+
+    public KakaoPayClient(RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry,
+                          @Qualifier("kakaoPayGuard") UpstreamGuard upstreamGuard,
+                          @Value("${pay.client.base-uri:https://open-api.kakaopay.com/online/v1}") String baseUri,
+                          @Value("${pay.client.connect-timeout-ms:3000}") long connectTimeoutMs,
+                          @Value("${pay.client.read-timeout-ms:10000}") long readTimeoutMs,
+                          @Value("${pay.client.pool-timeout-ms:2000}") long poolTimeoutMs,
+                          @Value("${pay.client.max-connections:50}") int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                // 호출 대상이 카카오페이 한 곳이므로 route 당 최대 연결 수 = 전체 최대 연결 수
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        // 오래 쉬었던 연결은 재사용 전에 상태 확인 (서버가 먼저 끊은 연결로 요청하지 않도록)
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                // 기본 재시도 정책은 503/429 응답에 POST 요청도 다시 보내므로 끔 (결제 승인/취소 중복 방지, 재시도는 호출하는 쪽에서 처리)
+                .disableAutomaticRetries()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMinutes(1))
+                .build();
+        this.restTemplate = restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.upstreamGuard = upstreamGuard;
+        this.baseUri = baseUri;
+    }
+
+    public PayReadyResponseDto ready(HttpEntity<Map<String, String>> request) {
+        return post("ready", "/payment/ready", request, PayReadyResponseDto.class);
+    }
+
+    public PayApproveResponseDto approve(HttpEntity<Map<String, String>> request) {
+        return post("approve", "/payment/approve", request, PayApproveResponseDto.class);
+    }
+
+    public PayCancelResponseDto cancel(HttpEntity<Map<String, String>> request) {
+        return post("cancel", "/payment/cancel", request, PayCancelResponseDto.class);
+    }
+
+    public PayOrderResponseDto order(HttpEntity<Map<String, String>> request) {
+        return post("order", "/payment/order", request, PayOrderResponseDto.class);
+    }
+
+    private <T> T post(String operation, String path, HttpEntity<Map<String, String>> request, Class<T> responseType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T response = upstreamGuard.call(() -> restTemplate.postForObject(baseUri + path, request, responseType));
+            outcome = "success";
+            return response;
+        } catch (UpstreamUnavailableException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("카카오페이 {} 요청 실패: {}", operation, e.getMessage());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("kakaopay.client.requests")
+                    .description("카카오페이 API 호출 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,108 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+
+// 외부 API 호출 격리
+// 동시 호출 수를 제한(bulkhead)해서 외부 API 가 느려져도 요청 스레드가 전부 묶이지 않게 하고,
+// 실패율이 기준을 넘으면 일정 시간 호출을 차단(circuit breaker)해서 바로 실패 응답을 준다.
+@Slf4j(topic = "UpstreamGuard")
+public class UpstreamGuard {
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final String unavailableMessage;
+
+    private UpstreamGuard(CircuitBreaker circuitBreaker, Bulkhead bulkhead, String unavailableMessage) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.unavailableMessage = unavailableMessage;
+    }
+
+    public static UpstreamGuard of(String name, Settings settings, String unavailableMessage,
+                                   CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                                   MeterRegistry meterRegistry) {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(settings.slidingWindowSize())
+                .minimumNumberOfCalls(settings.minimumNumberOfCalls())
+                .failureRateThreshold(settings.failureRateThreshold())
+                .waitDurationInOpenState(Duration.ofMillis(settings.waitInOpenStateMs()))
+                .permittedNumberOfCallsInHalfOpenState(settings.permittedCallsInHalfOpenState())
+                // 4xx 는 요청 자체의 문제이므로 외부 API 장애로 세지 않음
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build();
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.maxConcurrentCalls())
+                .maxWaitDuration(Duration.ofMillis(settings.maxWaitMs()))
+                .build();
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("{} circuit {} -> {}", name, event.getStateTransition().getFromState(),
+                    event.getStateTransition().getToState());
+            Counter.builder("upstream.circuit.transitions")
+                    .tag("name", name)
+                    .tag("from", event.getStateTransition().getFromState().name())
+                    .tag("to", event.getStateTransition().getToState().name())
+                    .description("외부 API circuit breaker 상태 전이 횟수")
+                    .register(meterRegistry)
+                    .increment();
+        });
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, bulkheadConfig);
+
+        return new UpstreamGuard(circuitBreaker, bulkhead, unavailableMessage);
+    }
+
+    // bulkhead 에서 거절된 호출은 외부 API 실패가 아니므로 circuit breaker 바깥에서 먼저 제한
+    public <T> T call(Supplier<T> supplier) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, supplier)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new UpstreamUnavailableException(unavailableMessage);
+        }
+    }
+
+    // 응답이 끝날 때까지 bulkhead 자리를 잡고 있는 비동기 호출 (스트리밍 응답 등)
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletionStage<T>> supplier) {
+        Supplier<CompletionStage<T>> decorated = Bulkhead.decorateCompletionStage(bulkhead,
+                CircuitBreaker.decorateCompletionStage(circuitBreaker, supplier));
+        CompletableFuture<T> result = new CompletableFuture<>();
+        decorated.get().whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+                result.completeExceptionally(new UpstreamUnavailableException(unavailableMessage));
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+        return result;
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    public record Settings(int maxConcurrentCalls, long maxWaitMs, int slidingWindowSize, int minimumNumberOfCalls,
+                           float failureRateThreshold, long waitInOpenStateMs, int permittedCallsInHalfOpenState) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AIConfig {
+
+    // 스트리밍이 끝난 AI 응답을 p_ai 에 저장하는 스레드 풀 (HTTP 클라이언트 스레드에서 DB 작업을 하지 않도록 분리)
+    @Bean
+    public ThreadPoolTaskExecutor aiTaskExecutor(@Value("${ai.stream.save-workers:2}") int workers,
+                                                 @Value("${ai.stream.save-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-save-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
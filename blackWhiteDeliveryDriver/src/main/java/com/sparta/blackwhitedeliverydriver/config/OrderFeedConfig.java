@@ -0,0 +1,22 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class OrderFeedConfig {
+
+    // 주문 피드 SSE 전송 스레드 풀. 구독자 큐를 비우는 작업만 올라오며, 느린 연결이 주문 처리 스레드를 잡지 않도록 분리
+    @Bean
+    public ThreadPoolTaskExecutor orderFeedExecutor(@Value("${order.feed.workers:4}") int workers,
+                                                    @Value("${order.feed.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-feed-");
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RefundJobConfig {
+
+    // 환불 작업 전용 스레드 풀. 대기열 크기만큼만 작업을 가져오므로 나머지는 DB 에 남아 다음 주기에 처리된다.
+    @Bean
+    public ThreadPoolTaskExecutor refundJobExecutor(@Value("${refund.job.workers:4}") int workers,
+                                                    @Value("${refund.job.batch-size:50}") int batchSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("refund-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,85 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import com.sparta.blackwhitedeliverydriver.client.UpstreamGuard;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamExceptionMessage;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 외부 API(카카오페이, Gemini) 별 circuit breaker / bulkhead 설정
+@Configuration
+public class ResilienceConfig {
+
+    // 상태, 호출 결과, 동시 호출 수 등을 resilience4j.* 메트릭으로 노출
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public RateLimiterRegistry rateLimiterRegistry(MeterRegistry meterRegistry) {
+        RateLimiterRegistry registry = RateLimiterRegistry.ofDefaults();
+        TaggedRateLimiterMetrics.ofRateLimiterRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public UpstreamGuard kakaoPayGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                                       BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry,
+                                       @Value("${resilience.kakaopay.max-concurrent-calls:20}") int maxConcurrentCalls,
+                                       @Value("${resilience.kakaopay.max-wait-ms:0}") long maxWaitMs,
+                                       @Value("${resilience.kakaopay.failure-rate-threshold:50}") float failureRate,
+                                       @Value("${resilience.kakaopay.wait-in-open-state-ms:30000}") long waitInOpenMs) {
+        UpstreamGuard.Settings settings = new UpstreamGuard.Settings(maxConcurrentCalls, maxWaitMs, 20, 10,
+                failureRate, waitInOpenMs, 3);
+        return UpstreamGuard.of("kakaopay", settings, UpstreamExceptionMessage.PAY_UNAVAILABLE.getMessage(),
+                circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    @Bean
+    public UpstreamGuard geminiGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                                     BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry,
+                                     @Value("${resilience.gemini.max-concurrent-calls:10}") int maxConcurrentCalls,
+                                     @Value("${resilience.gemini.max-wait-ms:0}") long maxWaitMs,
+                                     @Value("${resilience.gemini.failure-rate-threshold:50}") float failureRate,
+                                     @Value("${resilience.gemini.wait-in-open-state-ms:30000}") long waitInOpenMs) {
+        UpstreamGuard.Settings settings = new UpstreamGuard.Settings(maxConcurrentCalls, maxWaitMs, 20, 10,
+                failureRate, waitInOpenMs, 3);
+        return UpstreamGuard.of("gemini", settings, UpstreamExceptionMessage.AI_UNAVAILABLE.getMessage(),
+                circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    // Gemini 할당량에 맞춘 호출 제한. 주기마다 limit-for-period 개의 호출 권한이 채워지고,
+    // 권한이 없으면 timeout-ms 까지 기다렸다가 그래도 없으면 실패 (대기 중인 요청 수는 resilience4j.ratelimiter.waiting_threads)
+    @Bean
+    public RateLimiter geminiRateLimiter(RateLimiterRegistry rateLimiterRegistry,
+                                         @Value("${resilience.gemini.rate-limit.limit-for-period:15}") int limitForPeriod,
+                                         @Value("${resilience.gemini.rate-limit.refresh-period-ms:60000}") long refreshPeriodMs,
+                                         @Value("${resilience.gemini.rate-limit.timeout-ms:5000}") long timeoutMs) {
+        RateLimiterConfig config = RateLimiterConfig.custom()
+                .limitForPeriod(limitForPeriod)
+                .limitRefreshPeriod(Duration.ofMillis(refreshPeriodMs))
+                .timeoutDuration(Duration.ofMillis(timeoutMs))
+                .build();
+        return rateLimiterRegistry.rateLimiter("gemini", config);
+    }
+}
@@ -4,7 +4,7 @@ import com.sparta.blackwhitedeliverydriver.jwt.JwtUtil;
 import com.sparta.blackwhitedeliverydriver.security.AuthValidator;
 import com.sparta.blackwhitedeliverydriver.security.JwtAuthenticationFilter;
 import com.sparta.blackwhitedeliverydriver.security.JwtAuthorizationFilter;
-import com.sparta.blackwhitedeliverydriver.security.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,7 +27,6 @@ public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final AuthValidator authValidator;
-    private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationConfiguration authenticationConfiguration;
 
     @Bean
@@ -49,7 +48,7 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil);
     }
 
     @Bean
@@ -64,6 +63,8 @@ public class WebSecurityConfig {
 
         http.authorizeHttpRequests((authorizeHttpRequests) ->
                 authorizeHttpRequests
+                        // SSE 응답을 마무리하는 비동기 디스패치 (최초 요청에서 이미 인증/인가를 거침)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/users/signup").anonymous() // 회원가입은 인증처리가 되지 않은 대상에게만 허가
                         .requestMatchers("/payment").permitAll()
                         .requestMatchers("/payment/success").permitAll()
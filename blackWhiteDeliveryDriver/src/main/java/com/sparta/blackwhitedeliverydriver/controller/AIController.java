@@ -1,5 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.AIRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.AIResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
@@ -7,6 +9,7 @@ import com.sparta.blackwhitedeliverydriver.service.AIService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,4 +34,22 @@ public class AIController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(aiResponseDto);
     }
+
+    // 메뉴 여러 개의 소개를 한 번에 생성 (applyToProducts 이면 음식 소개에 바로 반영)
+    @Secured("ROLE_OWNER")
+    @PostMapping("/intro/batch")
+    public ResponseEntity<AIBatchResponseDto> recommendProductIntros(@Valid @RequestBody AIBatchRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        AIBatchResponseDto responseDto = aiService.recommendProductIntros(requestDto, userDetails.getUser());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+    }
+
+    // Gemini 응답을 생성되는 대로 SSE 로 받는 버전 (응답 기록 저장은 스트림이 끝난 뒤 비동기로 처리)
+    @Secured("ROLE_OWNER")
+    @PostMapping(value = "/intro/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProductNames(@Valid @RequestBody AIRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        return aiService.streamProductNames(requestDto, userDetails.getUser());
+    }
 }
@@ -4,6 +4,7 @@ import com.sparta.blackwhitedeliverydriver.dto.BasketAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketUpdateRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import com.sparta.blackwhitedeliverydriver.service.BasketService;
 import jakarta.validation.Valid;
@@ -68,6 +69,23 @@ public class BasketController {
         return ResponseEntity.status(HttpStatus.OK).body(responseDtoList);
     }
 
+    // cursor 파라미터가 있으면 커서 페이징 (빈 값은 첫 페이지)
+    @Secured({"ROLE_CUSTOMER", "ROLE_MANAGER", "ROLE_MASTER"})
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<BasketGetResponseDto>> getBasketsByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc) {
+
+        //장바구니 리스트 조회
+        CursorPageResponseDto<BasketGetResponseDto> responseDtoList = basketService.getBasketsByCursor(
+                userDetails.getUsername(), cursor, size, isAsc);
+
+        //200 응답
+        return ResponseEntity.status(HttpStatus.OK).body(responseDtoList);
+    }
+
     @Secured({"ROLE_CUSTOMER"})
     @PutMapping
     public ResponseEntity<BasketResponseDto> updateBasket(@AuthenticationPrincipal UserDetailsImpl userDetails,
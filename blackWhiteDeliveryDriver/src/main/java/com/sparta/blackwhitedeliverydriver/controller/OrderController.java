@@ -1,7 +1,8 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
-import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderUpdateRequestDto;
@@ -12,6 +13,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,9 +23,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -44,13 +48,16 @@ public class OrderController {
 
     @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
     @GetMapping("/{orderId}")//테스트 완료
-    public ResponseEntity<OrderGetDetailResponseDto> getOrderDetail(
+    public ResponseEntity<byte[]> getOrderDetail(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable UUID orderId) {
         //주문서 상세 조회
-        OrderGetDetailResponseDto response = orderService.getOrderDetail(userDetails.getUsername(), orderId);
-        //200 반환
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        DetailResponseCache.Entry response = orderService.getOrderDetailResponse(userDetails.getUsername(), orderId);
+        //200 반환 (If-None-Match 가 ETag 와 같으면 본문 없이 304 반환)
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
@@ -68,6 +75,21 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).body(responseList);
     }
 
+    // cursor 파라미터가 있으면 커서 페이징 (빈 값은 첫 페이지)
+    @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<OrderGetResponseDto>> getOrdersByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc) {
+        //주문 목록 조회
+        CursorPageResponseDto<OrderGetResponseDto> responseList = orderService.getOrdersByCursor(
+                userDetails.getUsername(), cursor, size, isAsc);
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responseList);
+    }
+
     @Secured({"ROLE_OWNER", "ROLE_MASTER", "ROLE_MANAGER"})
     @GetMapping("/stores/{storeId}")//테스트 완료
     public ResponseEntity<Page<OrderGetResponseDto>> getOrdersByStore(
@@ -85,6 +107,30 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).body(responseList);
     }
 
+    @Secured({"ROLE_OWNER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping(value = "/stores/{storeId}", params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<OrderGetResponseDto>> getOrdersByStoreByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc,
+            @PathVariable UUID storeId) {
+        //주문 목록 조회
+        CursorPageResponseDto<OrderGetResponseDto> responseList = orderService.getOrdersByStoreByCursor(
+                userDetails.getUsername(), cursor, size, isAsc, storeId);
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responseList);
+    }
+
+    // 점포 주문 변경 실시간 구독 (재연결 시 Last-Event-ID 이후 이벤트부터 받음)
+    @Secured({"ROLE_OWNER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping(value = "/stores/{storeId}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrderFeed(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                         @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                         @PathVariable UUID storeId) {
+        return orderService.subscribeOrderFeed(userDetails.getUsername(), storeId, lastEventId);
+    }
+
     @Secured({"ROLE_OWNER", "ROLE_MASTER", "ROLE_MANAGER"})
     @PutMapping
     public ResponseEntity<OrderResponseDto> updateOrderStatus(@AuthenticationPrincipal UserDetailsImpl userDetails,
@@ -1,7 +1,8 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
-import com.sparta.blackwhitedeliverydriver.dto.PayGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayReadyResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRefundRequestDto;
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -81,15 +83,34 @@ public class PayController {
         return ResponseEntity.status(HttpStatus.OK).body(responses);
     }
 
+    // cursor 파라미터가 있으면 커서 페이징 (빈 값은 첫 페이지)
     @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
-    @GetMapping("/{payId}")
-    public ResponseEntity<PayGetDetailResponseDto> getPayDetail(@AuthenticationPrincipal UserDetailsImpl userDetails,
-                                                                @PathVariable UUID payId) {
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<PayGetResponseDto>> getPaysByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc) {
         //pay 목록 조회
-        PayGetDetailResponseDto response = payService.getPayDetail(userDetails.getUsername(), payId);
+        CursorPageResponseDto<PayGetResponseDto> responses = payService.getPaysByCursor(userDetails.getUsername(),
+                cursor, size, isAsc);
 
         //200 반환
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.OK).body(responses);
+    }
+
+    @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/{payId}")
+    public ResponseEntity<byte[]> getPayDetail(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                               @PathVariable UUID payId) {
+        //pay 상세 조회
+        DetailResponseCache.Entry response = payService.getPayDetailResponse(userDetails.getUsername(), payId);
+
+        //200 반환 (If-None-Match 가 ETag 와 같으면 본문 없이 304 반환)
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     @Secured({"ROLE_MASTER", "ROLE_MANAGER"})
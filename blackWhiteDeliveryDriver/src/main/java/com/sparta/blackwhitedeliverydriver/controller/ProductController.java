@@ -1,17 +1,18 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.cache.MenuCache;
 import com.sparta.blackwhitedeliverydriver.dto.CreateProductRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductRequestDto;
-import com.sparta.blackwhitedeliverydriver.dto.ProductResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import com.sparta.blackwhitedeliverydriver.service.ProductService;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -33,7 +34,7 @@ public class ProductController {
     private final ProductService productService;
 
     @GetMapping("/")
-    public ResponseEntity<?> getProducts(
+    public ResponseEntity<byte[]> getProducts(
             @RequestParam(value = "page", defaultValue = "1") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "createdDate") String sortBy,
@@ -42,10 +43,15 @@ public class ProductController {
             @RequestParam UUID storeId
     ) {
         // 해당 가게의 모든 음식 조회
-        Page<ProductResponseDto> productResponseDtoPage = productService.getProducts(
+        MenuCache.Entry response = productService.getProductsResponse(
                 storeId, page - 1, size, sortBy, isAsc
         );
-        return ResponseEntity.status(HttpStatus.OK).body(productResponseDtoPage);
+        // If-None-Match 가 ETag 와 같으면 본문 없이 304 반환, 클라이언트는 매번 ETag 로 재검증
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(response.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     @Secured({"ROLE_OWNER", "ROLE_MANAGER", "ROLE_MASTER"})
@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto;
@@ -52,6 +53,20 @@ public class ReviewController {
         return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
     }
 
+    // cursor 파라미터가 있으면 커서 페이징 (빈 값은 첫 페이지)
+    @GetMapping(value = "/store", params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<ReviewResponseDto>> getAllReviewsByStoreIdByCursor(
+            @RequestParam UUID storeId,
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc) {
+
+        CursorPageResponseDto<ReviewResponseDto> responseDtos = reviewService.getAllReviewsByStoreIdByCursor(
+                storeId, cursor, size, isAsc);
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
+    }
+
     @GetMapping("/user")
     public ResponseEntity<Page<ReviewResponseDto>> getAllReviewsByUsername(
             @RequestParam String username,
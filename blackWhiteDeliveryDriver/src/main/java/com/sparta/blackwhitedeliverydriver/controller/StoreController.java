@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
@@ -48,6 +49,21 @@ public class StoreController {
         return ResponseEntity.status(HttpStatus.OK).body(storeResponseDtoPage);
     }
 
+    // cursor 파라미터가 있으면 커서 페이징 (빈 값은 첫 페이지)
+    @GetMapping(value = "/", params = "cursor")
+    public ResponseEntity<?> getStoresByCursor(
+            @RequestParam("cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc
+    ){
+        // 전체 점포 목록 커서 조회
+        CursorPageResponseDto<StoreResponseDto> storeResponseDtoPage = storeService.getStoresByCursor(
+                cursor, size, isAsc
+        );
+
+        return ResponseEntity.status(HttpStatus.OK).body(storeResponseDtoPage);
+    }
+
     @GetMapping("/{storeId}")
     public ResponseEntity<?> getStoreById(
             @RequestParam(value = "isExceptDelete", defaultValue = "true") Boolean isExceptDelete,
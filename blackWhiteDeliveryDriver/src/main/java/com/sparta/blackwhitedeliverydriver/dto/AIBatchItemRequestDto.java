@@ -0,0 +1,17 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AIBatchItemRequestDto {
+    // 생성한 소개를 반영할 음식 (없으면 응답만 받음)
+    private UUID productId;
+    @NotBlank
+    @Size(min = 2, max = 50)
+    private String prompt;
+}
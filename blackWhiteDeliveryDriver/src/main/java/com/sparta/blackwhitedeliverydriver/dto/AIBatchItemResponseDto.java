@@ -0,0 +1,25 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIBatchItemResponseDto {
+    private UUID productId;
+    private String prompt;
+    private String answer;
+
+    public static AIBatchItemResponseDto of(AIBatchItemRequestDto requestDto, String answer) {
+        return AIBatchItemResponseDto.builder()
+                .productId(requestDto.getProductId())
+                .prompt(requestDto.getPrompt())
+                .answer(answer)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AIBatchRequestDto {
+    @NotNull
+    private UUID storeId;
+    @Valid
+    @NotEmpty
+    @Size(max = 100)
+    private List<AIBatchItemRequestDto> items;
+    // true 이면 productId 가 있는 항목의 답변을 음식 소개(productIntro)로 저장
+    private boolean applyToProducts;
+}
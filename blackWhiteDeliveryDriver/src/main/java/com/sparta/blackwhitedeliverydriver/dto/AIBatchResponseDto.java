@@ -0,0 +1,13 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIBatchResponseDto {
+    private List<AIBatchItemResponseDto> items;
+}
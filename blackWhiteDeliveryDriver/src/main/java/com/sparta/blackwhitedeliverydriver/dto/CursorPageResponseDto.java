@@ -0,0 +1,34 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Window;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지가 없으면 null
+
+    // Window 는 size + 1 건을 조회해서 다음 페이지 여부를 판단하므로 COUNT 쿼리가 필요 없음
+    public static <E, T> CursorPageResponseDto<T> of(Window<E> window, Function<E, T> mapper,
+                                                     Function<E, String> cursorOf) {
+        List<E> rows = window.getContent();
+        boolean hasNext = window.hasNext() && !rows.isEmpty();
+
+        return CursorPageResponseDto.<T>builder()
+                .content(rows.stream().map(mapper).toList())
+                .size(rows.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(rows.get(rows.size() - 1)) : null)
+                .build();
+    }
+}
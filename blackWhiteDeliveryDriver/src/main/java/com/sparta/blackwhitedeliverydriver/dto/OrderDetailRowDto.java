@@ -0,0 +1,29 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import java.util.List;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 주문/결제 상세 조회용. 주문(결제)과 주문 상품의 상품을 한 번의 join 으로 읽은 한 행 (주문 상품이 없으면 product 는 null)
+@Getter
+@AllArgsConstructor
+public class OrderDetailRowDto {
+    private Pay pay;
+    private Order order;
+    private Product product;
+
+    public OrderDetailRowDto(Order order, Product product) {
+        this(null, order, product);
+    }
+
+    public static List<Product> products(List<OrderDetailRowDto> rows) {
+        return rows.stream()
+                .map(OrderDetailRowDto::getProduct)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,12 +1,11 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
 import com.sparta.blackwhitedeliverydriver.entity.Order;
-import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
 import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
 import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,7 +26,7 @@ public class OrderGetDetailResponseDto {
     private Integer discountAmount;
     private List<ProductResponseDto> products;
 
-    public static OrderGetDetailResponseDto of(Order order, List<OrderProduct> orderProducts) {
+    public static OrderGetDetailResponseDto of(Order order, List<Product> products) {
         return OrderGetDetailResponseDto.builder()
                 .orderId(order.getId())
                 .storeId(order.getStore().getStoreId())
@@ -37,9 +36,7 @@ public class OrderGetDetailResponseDto {
                 .finalPay(order.getFinalPay())
                 .discountRate(order.getDiscountRate())
                 .discountAmount(order.getDiscountAmount())
-                .products(orderProducts.stream().map(orderProduct -> ProductResponseDto.from(orderProduct.getProduct()))
-                        .collect(
-                                Collectors.toList()))
+                .products(products.stream().map(ProductResponseDto::from).toList())
                 .build();
     }
 }
@@ -1,8 +1,8 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
-import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
 import com.sparta.blackwhitedeliverydriver.entity.Pay;
 import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -25,7 +25,7 @@ public class PayGetDetailResponseDto {
     private LocalDateTime approvedAt;
     private LocalDateTime canceledAt;
 
-    public static PayGetDetailResponseDto ofPayAndOrderProducts(Pay pay, List<OrderProduct> products) {
+    public static PayGetDetailResponseDto ofPayAndProducts(Pay pay, List<Product> products) {
         return PayGetDetailResponseDto.builder()
                 .payId(pay.getId())
                 .order(OrderGetDetailResponseDto.of(pay.getOrder(), products))
@@ -0,0 +1,13 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 점포 이름 색인 적재용 (storeId, storeName) 2개 컬럼만 조회
+@Getter
+@AllArgsConstructor
+public class StoreNameDto {
+    private UUID storeId;
+    private String storeName;
+}
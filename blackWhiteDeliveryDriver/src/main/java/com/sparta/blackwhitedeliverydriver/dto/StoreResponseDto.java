@@ -1,6 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
 import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreFront;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -49,4 +50,24 @@ public class StoreResponseDto {
                 .avgRating((double)store.getRating() / store.getReviewCnt())
                 .build();
     }
+
+    public static StoreResponseDto from(StoreFront storeFront) {
+        return StoreResponseDto.builder()
+                .storeId(storeFront.getStoreId())
+                .storeName(storeFront.getStoreName())
+                .phoneNumber(storeFront.getPhoneNumber())
+                .openTime(storeFront.getOpenTime())
+                .closeTime(storeFront.getCloseTime())
+                .imgUrl(storeFront.getImgUrl())
+                .zipNum(storeFront.getZipNum())
+                .city(storeFront.getCity())
+                .district(storeFront.getDistrict())
+                .streetName(storeFront.getStreetName())
+                .streetNumber(storeFront.getStreetNumber())
+                .detailAddr(storeFront.getDetailAddr())
+                .storeIntro(storeFront.getStoreIntro())
+                .category(storeFront.getCategory())
+                .avgRating(storeFront.getAvgRating())
+                .build();
+    }
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "p_ai")
+@Table(name = "p_ai", indexes = {
+        @Index(name = "idx_ai_created", columnList = "createdDate")
+})
 public class AI extends BaseEntity{
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -50,4 +53,12 @@ public class AI extends BaseEntity{
                 .user(user)
                 .build();
     }
+
+    public static AI of(String prompt, String answer, User user) {
+        return AI.builder()
+                .prompt(prompt)
+                .answer(answer)
+                .user(user)
+                .build();
+    }
 }
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +19,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "p_address")
+@Table(name = "p_address", indexes = {
+        @Index(name = "idx_address_user_created", columnList = "user_username, createdDate")
+})
 public class Address extends BaseEntity{
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -17,7 +18,9 @@ import org.hibernate.annotations.GenericGenerator;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "p_category")
+@Table(name = "p_category", indexes = {
+        @Index(name = "idx_category_created", columnList = "createdDate")
+})
 public class Category extends BaseEntity {
     @Id
     @GeneratedValue(generator = "UUID")
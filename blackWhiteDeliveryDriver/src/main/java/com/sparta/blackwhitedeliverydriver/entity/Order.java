@@ -1,16 +1,16 @@
 package com.sparta.blackwhitedeliverydriver.entity;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -25,18 +25,22 @@ import org.hibernate.annotations.ColumnDefault;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+        @Index(name = "idx_order_user_created", columnList = "user_id, createdDate"),
+        @Index(name = "idx_order_store_created", columnList = "store_id, createdDate"),
+        @Index(name = "idx_order_created", columnList = "createdDate")
+})
 public class Order extends BaseEntity {
     @Id
     @Column(nullable = false, unique = true)
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id")
     private Store store;
 
@@ -50,7 +54,8 @@ public class Order extends BaseEntity {
     @Column(nullable = false)
     private Integer discountAmount;
 
-    @Column(nullable = false)
+    // 상태 변경은 OrderStateMachine 의 조건부 UPDATE 로만 반영 (엔티티 변경 감지로는 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     @Enumerated(value = EnumType.STRING)
     private OrderStatusEnum status;
 
@@ -58,9 +63,6 @@ public class Order extends BaseEntity {
     @Enumerated(value = EnumType.STRING)
     private OrderTypeEnum type;
 
-    @OneToOne(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
-    private Review review;
-
     private String tid;
 
     public static Order ofUserAndStore(User user, Store store, OrderTypeEnum type) {
@@ -15,6 +15,11 @@ public enum OrderStatusEnum {
         return this.name();
     }
 
+    // 이후 상태가 바뀌지 않는 주문 (거절된 주문은 환불이 끝나면 CANCEL 로 바뀌므로 제외)
+    public boolean isFinal() {
+        return this == COMPLETED || this == CANCEL;
+    }
+
     @JsonCreator
     public static OrderStatusEnum fromString(String status) {
         return OrderStatusEnum.valueOf(status.toUpperCase()); // 대소문자 구분하지 않음
@@ -1,13 +1,14 @@
 package com.sparta.blackwhitedeliverydriver.entity;
 
-import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -24,14 +25,19 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "p_pay")
+@Table(name = "p_pay", indexes = {
+        @Index(name = "idx_pay_created", columnList = "createdDate"),
+        @Index(name = "idx_pay_status_modified", columnList = "payStatus, lastModifiedDate")
+})
 public class Pay extends BaseEntity {
+    public static final String ITEM_NAME = "흑백 기사 배달 주문";
+
     @Id
     @Column(nullable = false, unique = true)
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private Order order;
 
@@ -53,17 +59,44 @@ public class Pay extends BaseEntity {
     private LocalDateTime approvedAt;
     private LocalDateTime canceledAt;
 
-    public static Pay of(Order order, PayApproveResponseDto approveResponse) {
+    // 카카오페이 승인 요청 전에 먼저 저장해 두는 결제. 승인 결과를 받지 못해도 tid 로 상태를 다시 확인할 수 있다.
+    public static Pay approving(Order order, String tid) {
         return Pay.builder()
                 .order(order)
-                .payStatus(PayStatusEnum.SUCCESS)
-                .itemName(approveResponse.getItem_name())
-                .tid(approveResponse.getTid())
-                .payAmount(approveResponse.getAmount().getTotal())
-                .approvedAt(LocalDateTime.parse(approveResponse.getApproved_at()))
+                .payStatus(PayStatusEnum.APPROVING)
+                .itemName(ITEM_NAME)
+                .tid(tid)
+                .payAmount(order.getFinalPay())
                 .build();
     }
 
+    // 승인 실패한 결제를 새 tid 로 다시 승인 요청
+    public void retryApproval(String tid, int payAmount) {
+        this.payStatus = PayStatusEnum.APPROVING;
+        this.tid = tid;
+        this.payAmount = payAmount;
+    }
+
+    public void approve(String itemName, int payAmount, String approvedAt) {
+        this.payStatus = PayStatusEnum.SUCCESS;
+        this.itemName = itemName;
+        this.payAmount = payAmount;
+        this.approvedAt = LocalDateTime.parse(approvedAt);
+    }
+
+    public void fail() {
+        this.payStatus = PayStatusEnum.FAILED;
+    }
+
+    public void startRefund() {
+        this.payStatus = PayStatusEnum.REFUNDING;
+    }
+
+    // 환불 요청이 거절된 경우 결제 완료 상태로 되돌림
+    public void cancelRefund() {
+        this.payStatus = PayStatusEnum.SUCCESS;
+    }
+
     public void updateByRefund(PayStatusEnum payStatusEnum, int total, String canceledAt) {
         this.payStatus = payStatusEnum;
         this.refundAmount = total;
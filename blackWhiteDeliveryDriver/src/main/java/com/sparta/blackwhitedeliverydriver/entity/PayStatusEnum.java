@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.entity;
 
 public enum PayStatusEnum {
-    SUCCESS, REFUND;
+    // APPROVING, REFUNDING 은 카카오페이 응답을 기다리는 중간 상태 (응답 없이 남으면 PayRecoveryService 가 정리)
+    SUCCESS, REFUND, APPROVING, REFUNDING, FAILED;
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,9 @@ import org.hibernate.annotations.GenericGenerator;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "p_product")
+@Table(name = "p_product", indexes = {
+        @Index(name = "idx_product_store_created", columnList = "store_store_id, createdDate")
+})
 public class Product extends BaseEntity {
     @Id
     @GeneratedValue(generator = "UUID")
@@ -63,4 +66,8 @@ public class Product extends BaseEntity {
         this.imgUrl = requestDto.getImgUrl();
         this.productIntro = requestDto.getProductIntro();
     }
+
+    public void updateIntro(String productIntro) {
+        this.productIntro = productIntro;
+    }
 }
@@ -0,0 +1,81 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 점포 주인이 거절한 주문의 환불 작업. 거절 요청에서는 작업만 저장하고 카카오페이 취소는 RefundJobService 가 처리한다.
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "p_refund_job", indexes = {
+        @Index(name = "idx_refund_job_status_next", columnList = "status, nextAttemptAt")
+})
+public class RefundJob extends BaseEntity {
+    @Id
+    @Column(nullable = false, unique = true)
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne
+    @JoinColumn(name = "pay_id", nullable = false)
+    private Pay pay;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private RefundJobStatusEnum status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    public static RefundJob from(Pay pay) {
+        return RefundJob.builder()
+                .pay(pay)
+                .status(RefundJobStatusEnum.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void start() {
+        this.status = RefundJobStatusEnum.PROCESSING;
+        this.attempts++;
+    }
+
+    public void succeed() {
+        this.status = RefundJobStatusEnum.SUCCEEDED;
+        this.lastError = null;
+    }
+
+    public void retry(LocalDateTime nextAttemptAt, String error) {
+        this.status = RefundJobStatusEnum.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+    }
+
+    public void fail(String error) {
+        this.status = RefundJobStatusEnum.FAILED;
+        this.lastError = error;
+    }
+}
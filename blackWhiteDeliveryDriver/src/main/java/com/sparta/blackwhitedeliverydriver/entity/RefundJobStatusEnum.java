@@ -0,0 +1,8 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+public enum RefundJobStatusEnum {
+    PENDING,        // 처리 대기 (재시도 대기 포함)
+    PROCESSING,     // 작업 스레드에서 처리 중
+    SUCCEEDED,      // 환불 완료
+    FAILED;         // 재시도 횟수 초과
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "p_review")
+@Table(name = "p_review", indexes = {
+        @Index(name = "idx_review_created", columnList = "createdDate")
+})
 public class Review extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -17,6 +17,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.GenericGenerator;
 
 @Entity
@@ -63,6 +64,10 @@ public class Store extends BaseEntity {
     private String storeIntro;
     @Column(name = "is_public", nullable = false)
     private Boolean isPublic = false; // 매장 승인 여부
+    // 메뉴(음식)가 등록/수정/삭제될 때마다 StoreRepository.increaseMenuVersion 으로만 올리는 버전 (메뉴 조회 캐시 키)
+    @ColumnDefault("0")
+    @Column(name = "menu_version", nullable = false, insertable = false, updatable = false)
+    private Long menuVersion;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_username", nullable = false)
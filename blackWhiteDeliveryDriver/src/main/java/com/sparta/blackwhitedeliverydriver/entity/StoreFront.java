@@ -0,0 +1,103 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 점포 목록/검색 전용 읽기 모델. 삭제되지 않은 점포 1건당 1행을 유지하며 카테고리 이름과 평균 평점을 미리 계산해 둔다.
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "p_store_front", indexes = {
+        @Index(name = "idx_store_front_public_created", columnList = "is_public, created_date"),
+        @Index(name = "idx_store_front_username_created", columnList = "username, created_date"),
+        @Index(name = "idx_store_front_store_name", columnList = "store_name")
+})
+public class StoreFront {
+    @Id
+    @Column(name = "store_id", updatable = false, nullable = false)
+    private UUID storeId;
+    @Column(name = "store_name", nullable = false)
+    private String storeName;
+    @Column(name = "phone_number", nullable = false)
+    private String phoneNumber;
+    @Column(name = "open_time", nullable = false)
+    private LocalTime openTime;
+    @Column(name = "close_time", nullable = false)
+    private LocalTime closeTime;
+    @Column(name = "img_url")
+    private String imgUrl;
+    @Column(name = "zip_num", nullable = false)
+    private String zipNum;
+    @Column(name = "city", nullable = false)
+    private String city;
+    @Column(name = "district", nullable = false)
+    private String district;
+    @Column(name = "street_name", nullable = false)
+    private String streetName;
+    @Column(name = "street_number", nullable = false)
+    private String streetNumber;
+    @Column(name = "detail_addr", nullable = false)
+    private String detailAddr;
+    @Column(name = "store_intro", nullable = false)
+    private String storeIntro;
+    @Column(name = "category", nullable = false)
+    private String category;
+    @Column(name = "rating", nullable = false)
+    private Integer rating;
+    @Column(name = "review_cnt", nullable = false)
+    private Integer reviewCnt;
+    @Column(name = "avg_rating", nullable = false)
+    private Double avgRating;
+    @Column(name = "is_public", nullable = false)
+    private Boolean isPublic;
+    @Column(name = "username", nullable = false)
+    private String username;
+    // 정렬 기준을 원본 점포와 같게 유지하기 위해 점포의 생성/수정 시각을 그대로 복사
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+    @Column(name = "last_modified_date")
+    private LocalDateTime lastModifiedDate;
+
+    public static StoreFront from(Store store, String categoryNames) {
+        StoreFront storeFront = StoreFront.builder()
+                .storeId(store.getStoreId())
+                .build();
+        storeFront.update(store, categoryNames);
+        return storeFront;
+    }
+
+    public void update(Store store, String categoryNames) {
+        this.storeName = store.getStoreName();
+        this.phoneNumber = store.getPhoneNumber();
+        this.openTime = store.getOpenTime();
+        this.closeTime = store.getCloseTime();
+        this.imgUrl = store.getImgUrl();
+        this.zipNum = store.getZipNum();
+        this.city = store.getCity();
+        this.district = store.getDistrict();
+        this.streetName = store.getStreetName();
+        this.streetNumber = store.getStreetNumber();
+        this.detailAddr = store.getDetailAddr();
+        this.storeIntro = store.getStoreIntro();
+        this.category = categoryNames;
+        this.rating = store.getRating();
+        this.reviewCnt = store.getReviewCnt();
+        this.avgRating = (double) store.getRating() / store.getReviewCnt();
+        this.isPublic = store.getIsPublic();
+        this.username = store.getUser().getUsername();
+        this.createdDate = store.getCreatedDate();
+        this.lastModifiedDate = store.getLastModifiedDate();
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
@@ -26,7 +27,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "p_user")
+@Table(name = "p_user", indexes = {
+        @Index(name = "idx_user_created", columnList = "createdDate")
+})
 public class User extends BaseEntity {
     @Id
     @Column(nullable = false, unique = true)
@@ -19,6 +19,8 @@ public enum ExceptionMessage {
     NOT_ALLOWED_API("접근 권한이 없습니다."),
     ADDRESS_NOT_FOUND("해당 주소가 존재하지 않습니다."),
     ADDRESS_DELETED("삭제된 주소입니다."),
-    CURRNET_ADDRESS_NOT_FOUND("현재(기본) 배송지로 지정한 배송지가 없습니다.");
+    CURRNET_ADDRESS_NOT_FOUND("현재(기본) 배송지로 지정한 배송지가 없습니다."),
+    INVALID_CURSOR("유효하지 않은 커서입니다."),
+    INVALID_SORT_KEY("정렬할 수 없는 기준입니다.");
     private final String message;
 }
@@ -57,4 +57,19 @@ public class GlobalExceptionHandler {
         );
         return new ResponseEntity<>(restApiException, HttpStatus.FORBIDDEN);
     }
+
+    // 주문 상태 전이 충돌 (동시에 다른 상태로 바뀐 경우 포함)
+    @ExceptionHandler(OrderStatusConflictException.class)
+    public ResponseEntity<RestApiException> orderStatusConflictExceptionHandler(OrderStatusConflictException ex) {
+        RestApiException restApiException = new RestApiException(ex.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(restApiException, HttpStatus.CONFLICT);
+    }
+
+    // 외부 API 장애 시 요청을 기다리게 하지 않고 바로 503 반환
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<RestApiException> upstreamUnavailableExceptionHandler(UpstreamUnavailableException ex) {
+        RestApiException restApiException = new RestApiException(ex.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value());
+        return new ResponseEntity<>(restApiException, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
@@ -11,6 +11,7 @@ public enum OrderExceptionMessage {
     ORDER_UNABLE_DELETE_STATUS("주문을 취소할 수 있는 상태가 아닙니다."),
     ORDER_UNABLE_PAY_STATUS("결제를 할 수 있는 주문 상태가 아닙니다."),
     ORDER_UNABLE_UPDATE("주문 상태를 변경할 수 없습니다."),
-    ORDER_ALREADY_EXIST("생성한 주문이 이미 존재합니다.");
+    ORDER_ALREADY_EXIST("생성한 주문이 이미 존재합니다."),
+    ORDER_STATUS_CONFLICT("다른 요청으로 주문 상태가 이미 변경되었습니다. 다시 조회 후 시도해주세요.");
     private final String message;
 }
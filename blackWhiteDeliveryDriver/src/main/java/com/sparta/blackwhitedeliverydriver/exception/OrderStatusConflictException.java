@@ -0,0 +1,9 @@
+package com.sparta.blackwhitedeliverydriver.exception;
+
+// 현재 주문 상태에서 요청한 상태로 바꿀 수 없거나, 다른 요청이 먼저 상태를 바꾼 경우 (409)
+// 잘못된 요청의 한 종류로 보고 IllegalArgumentException 을 확장 (처리 핸들러는 409 로 따로 응답)
+public class OrderStatusConflictException extends IllegalArgumentException {
+    public OrderStatusConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.blackwhitedeliverydriver.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum UpstreamExceptionMessage {
+    PAY_UNAVAILABLE("결제 서비스 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
+    AI_UNAVAILABLE("AI 서비스 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
+    AI_RATE_LIMITED("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+    private final String message;
+}
@@ -0,0 +1,8 @@
+package com.sparta.blackwhitedeliverydriver.exception;
+
+// 외부 API 가 차단(circuit open)되었거나 동시 호출 한도를 넘어 요청을 보내지 않은 경우
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,251 @@
+package com.sparta.blackwhitedeliverydriver.feed;
+
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+// 점포별 주문 변경을 SSE 로 전달하는 인메모리 fan-out
+// 주문 상태가 바뀌면 트랜잭션 커밋 후 점포의 구독자 큐에 넣고, 구독자마다 전송 스레드 풀에서 순서대로 보낸다.
+// 느린 구독자의 큐가 가득 차면 연결을 끊어 다른 구독자나 주문 처리가 기다리지 않도록 하며,
+// 클라이언트는 재연결 시 Last-Event-ID 로 최근 이벤트(replaySize 개)부터 이어 받는다. (이 인스턴스에서 처리한 변경만 전달)
+@Slf4j(topic = "OrderFeedHub")
+@Component
+public class OrderFeedHub {
+    public static final String ORDER_EVENT = "order";
+    public static final String ORDER_DELETED_EVENT = "order-deleted";
+    // 놓친 이벤트를 이어 줄 수 없을 때 (보관 범위를 벗어났거나 서버 재시작) 목록 API 로 다시 조회하라는 이벤트
+    public static final String RESET_EVENT = "reset";
+    private static final long RECONNECT_TIME_MS = 3000;
+
+    private final ThreadPoolTaskExecutor orderFeedExecutor;
+    private final Map<UUID, StoreFeed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final long timeoutMs;
+    private final int subscriberBufferSize;
+    private final int replaySize;
+
+    public OrderFeedHub(@Qualifier("orderFeedExecutor") ThreadPoolTaskExecutor orderFeedExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${order.feed.timeout-ms:1800000}") long timeoutMs,
+                        @Value("${order.feed.subscriber-buffer-size:256}") int subscriberBufferSize,
+                        @Value("${order.feed.replay-size:200}") int replaySize) {
+        this.orderFeedExecutor = orderFeedExecutor;
+        this.timeoutMs = timeoutMs;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.replaySize = replaySize;
+        Gauge.builder("order.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("주문 피드 구독 중인 연결 수")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("order.feed.published")
+                .description("주문 피드로 발행한 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("order.feed.dropped")
+                .description("큐가 가득 차 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+    // lastEventId 가 있으면 그 이후 이벤트부터 다시 보냄
+    public SseEmitter subscribe(UUID storeId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        StoreFeed feed = feeds.computeIfAbsent(storeId, key -> new StoreFeed());
+        Subscriber subscriber = new Subscriber(feed, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(throwable -> subscriber.close());
+
+        subscriberCount.incrementAndGet();
+        feed.register(subscriber, lastEventId);
+        return emitter;
+    }
+
+    // 주문 변경 트랜잭션이 커밋된 뒤에 발행 (롤백되면 발행하지 않음)
+    public void publishAfterCommit(Order order) {
+        publishAfterCommit(ORDER_EVENT, order);
+    }
+
+    public void publishDeletedAfterCommit(Order order) {
+        publishAfterCommit(ORDER_DELETED_EVENT, order);
+    }
+
+    private void publishAfterCommit(String eventName, Order order) {
+        UUID storeId = order.getStore().getStoreId();
+        OrderGetResponseDto data = OrderGetResponseDto.fromOrder(order);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(storeId, eventName, data);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(storeId, eventName, data);
+            }
+        });
+    }
+
+    void publish(UUID storeId, String eventName, OrderGetResponseDto data) {
+        StoreFeed feed = feeds.get(storeId);
+        if (feed == null) {
+            // 구독한 적 없는 점포는 재연결할 구독자도 없으므로 보관하지 않음
+            return;
+        }
+        feed.append(eventName, data);
+        publishedCounter.increment();
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송 (끊긴 연결도 이때 정리됨)
+    @Scheduled(fixedDelayString = "${order.feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (StoreFeed feed : feeds.values()) {
+            for (Subscriber subscriber : feed.subscribers) {
+                subscriber.offer(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private record FeedEvent(long id, String name, OrderGetResponseDto data) {
+
+        SseEventBuilder toSse() {
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data);
+        }
+    }
+
+    // 점포 하나의 최근 이벤트와 구독자 목록. 이벤트 추가와 구독 등록을 같은 잠금으로 묶어 재전송 중 누락/중복이 없도록 함
+    private class StoreFeed {
+        private final Deque<FeedEvent> recent = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private long lastId;
+        // 보관 범위를 벗어나 버린 마지막 이벤트 id
+        private long evictedId;
+
+        synchronized void append(String eventName, OrderGetResponseDto data) {
+            FeedEvent event = new FeedEvent(++lastId, eventName, data);
+            recent.addLast(event);
+            if (recent.size() > replaySize) {
+                evictedId = recent.removeFirst().id();
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event.toSse());
+            }
+        }
+
+        synchronized void register(Subscriber subscriber, Long lastEventId) {
+            subscribers.add(subscriber);
+            subscriber.offer(SseEmitter.event().reconnectTime(RECONNECT_TIME_MS).comment("connected"));
+            if (lastEventId == null) {
+                return;
+            }
+
+            if (lastEventId < evictedId || lastEventId > lastId) {
+                subscriber.offer(SseEmitter.event().name(RESET_EVENT).data(RESET_EVENT));
+                return;
+            }
+            List<FeedEvent> missed = new ArrayList<>();
+            for (FeedEvent event : recent) {
+                if (event.id() > lastEventId) {
+                    missed.add(event);
+                }
+            }
+            missed.forEach(event -> subscriber.offer(event.toSse()));
+        }
+    }
+
+    // 구독자별 전송 큐. 한 번에 한 스레드만 전송하도록 draining 플래그로 막음
+    private class Subscriber {
+        private final StoreFeed feed;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        Subscriber(StoreFeed feed, SseEmitter emitter) {
+            this.feed = feed;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(subscriberBufferSize);
+        }
+
+        void offer(SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // 따라오지 못하는 구독자는 끊고, 클라이언트가 Last-Event-ID 로 다시 연결하도록 함
+                droppedCounter.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                orderFeedExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결이 끊긴 경우
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                feed.subscribers.remove(this);
+                queue.clear();
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+}
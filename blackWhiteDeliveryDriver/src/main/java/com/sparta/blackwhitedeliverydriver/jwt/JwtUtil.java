@@ -1,10 +1,14 @@
 package com.sparta.blackwhitedeliverydriver.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.CustomJwtException;
 import com.sparta.blackwhitedeliverydriver.exception.JwtExceptionMessage;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -13,9 +17,13 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -35,13 +43,45 @@ public class JwtUtil {
 
     @Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
     private String secretKey;
+    @Value("${jwt.verified-cache.max-size:10000}") // 검증 완료 토큰 캐시 크기 (0 이면 캐시하지 않음)
+    private long verifiedCacheMaxSize;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    // 파서는 thread-safe 하므로 한 번만 만들어서 재사용
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        if (verifiedCacheMaxSize <= 0) {
+            return;
+        }
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    // 토큰마다 만료 시각까지만 캐시에 유지
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken verified, long currentTime) {
+                        long remainingMillis = verified.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken verified, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(digest, verified, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken verified, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     // 토큰 생성
@@ -67,10 +107,30 @@ public class JwtUtil {
         return null;
     }
 
-    // 토큰 검증
-    public void validateToken(String token) {
+    // 토큰 검증 후 사용자 정보 반환
+    // 최근에 검증한 토큰은 만료 시각까지 캐시에서 바로 반환하고, 처음 보는 토큰만 서명 검증을 한다.
+    // 반환된 Claims 는 다른 요청과 공유되므로 수정하지 않는다.
+    public Claims verifyToken(String token) {
+        if (verifiedTokens == null) {
+            return parseClaims(token);
+        }
+
+        String digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified != null) {
+            return verified.claims();
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(claims, claims.getExpiration().getTime()));
+        }
+        return claims;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error(JwtExceptionMessage.INVALID_SIGNATURE.getMessage());
             throw new CustomJwtException(JwtExceptionMessage.INVALID_SIGNATURE.getMessage());
@@ -90,8 +150,17 @@ public class JwtUtil {
         }
     }
 
-    // 토큰에서 사용자 정보 가져오기
-    public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    // 캐시 키는 토큰 원문 대신 SHA-256 다이제스트 (메모리에 토큰 원문을 남기지 않음)
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Claims claims, long expiresAtMillis) {
     }
 }
@@ -1,8 +1,12 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.AI;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface AIRepository extends JpaRepository<AI, UUID> {
+    List<AI> findAllByCreatedDateAfter(LocalDateTime createdDate, Pageable pageable);
 }
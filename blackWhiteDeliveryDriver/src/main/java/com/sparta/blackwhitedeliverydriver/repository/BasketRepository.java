@@ -2,23 +2,46 @@ package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.Basket;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface BasketRepository extends JpaRepository<Basket, UUID> {
+public interface BasketRepository extends JpaRepository<Basket, UUID>, JpaSpecificationExecutor<Basket> {
     List<Basket> findAllByUser(User user);
 
     @Query("SELECT b FROM Basket b WHERE b.user = :user AND b.deletedDate IS NULL")
     List<Basket> findAllByUserAndNotDeleted(User user);
 
+    @Query("SELECT b FROM Basket b JOIN FETCH b.product JOIN FETCH b.store WHERE b.user = :user AND b.deletedDate IS NULL")
+    List<Basket> findAllWithProductByUserAndNotDeleted(User user);
+
+    // 주문으로 넘어간 장바구니를 UPDATE 한 번으로 삭제 처리 (벌크 연산이라 auditing 값도 직접 설정)
+    @Modifying
+    @Query("UPDATE Basket b SET b.deletedDate = :deletedDate, b.deletedBy = :deletedBy, "
+            + "b.lastModifiedDate = :deletedDate, b.lastModifiedBy = :deletedBy "
+            + "WHERE b.id IN :ids AND b.deletedDate IS NULL")
+    int softDeleteAllByIdIn(@Param("ids") Collection<UUID> ids, @Param("deletedBy") String deletedBy,
+                            @Param("deletedDate") LocalDateTime deletedDate);
+
+    // 장바구니 목록 응답은 점포 이름과 상품 이름을 쓰므로 store, product 를 함께 조회 (user 는 FK 의 id 만 사용)
+    @EntityGraph(attributePaths = {"store", "product"})
     @Query("SELECT b FROM Basket b WHERE b.user = :user AND b.deletedDate IS NULL")
     Page<Basket> findAllByUserAndNotDeleted(User user, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"store", "product"})
+    @Query("SELECT b FROM Basket b")
+    Page<Basket> findAllWithStoreAndProduct(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"store", "product"})
     @Query("SELECT b FROM Basket b WHERE b.product.name LIKE %:productName% AND b.user = :user AND b.deletedDate IS NULL")
     Page<Basket> findByProductNameContainingAndUserAndNotDeleted(@Param("productName") String productName, User user, Pageable pageable);
 }
@@ -0,0 +1,57 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.Basket;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.Review;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreFront;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+// 커서 페이징 조회 조건. 각 Repository 의 offset 페이징 쿼리와 같은 조건을 유지한다.
+public final class CursorSpecifications {
+
+    private CursorSpecifications() {
+    }
+
+    // OrderRepository.findAllByUserAndNotDeleted
+    public static Specification<Order> ordersOfUser(User user) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("user"), user),
+                cb.isNull(root.get("deletedDate")));
+    }
+
+    // OrderRepository.findAllByStoreAndNotDeleted
+    public static Specification<Order> ordersOfStore(Store store) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("store"), store),
+                cb.isNull(root.get("deletedDate")));
+    }
+
+    // BasketRepository.findAllByUserAndNotDeleted
+    public static Specification<Basket> basketsOfUser(User user) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("user"), user),
+                cb.isNull(root.get("deletedDate")));
+    }
+
+    // PayRepository.findAllByUser
+    public static Specification<Pay> paysOfUser(User user) {
+        return (root, query, cb) -> cb.equal(root.get("order").get("user"), user);
+    }
+
+    // ReviewRepository.findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull
+    public static Specification<Review> reviewsOfStore(UUID storeId) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("order").get("store").get("storeId"), storeId),
+                cb.isNull(root.get("deletedBy")),
+                cb.isNull(root.get("deletedDate")));
+    }
+
+    // StoreFrontRepository.findAllByIsPublicTrue
+    public static Specification<StoreFront> publicStoreFronts() {
+        return (root, query, cb) -> cb.isTrue(root.get("isPublic"));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface OrderProductRepository extends JpaRepository<OrderProduct, UUID> {
-    @Query("SELECT op FROM OrderProduct op WHERE op.order = :order AND op.deletedDate IS NULL")
-    List<OrderProduct> findAllByOrderAndNotDeleted(@Param("order") Order order);
+    // 주문 상세/취소는 상품 정보까지 쓰므로 product 를 fetch join 으로 한 번에 조회
+    @Query("SELECT op FROM OrderProduct op JOIN FETCH op.product WHERE op.order = :order AND op.deletedDate IS NULL")
+    List<OrderProduct> findAllWithProductByOrderAndNotDeleted(@Param("order") Order order);
 }
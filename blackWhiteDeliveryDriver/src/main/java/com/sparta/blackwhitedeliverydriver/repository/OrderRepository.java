@@ -1,26 +1,68 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
     List<Order> findAllByUser(User user);
     Optional<Order> findByTid(String tid);
-    @Query("SELECT o FROM Order o WHERE o.user = :user AND o.deletedDate IS NULL")
-    Page<Order> findAllByUserAndNotDeleted(User user, Pageable pageable);
-    @Query("SELECT o FROM Order o WHERE o.store = :store AND o.deletedDate IS NULL")
-    Page<Order> findAllByStoreAndNotDeleted(Store store, Pageable pageable);
-    @Query("SELECT o FROM Order o WHERE o.store.storeName LIKE %:storeName%") // 관리자용 deletedAt이 null이 아닌 것도 포함
-    Page<Order> findByStoreNameContaining(@Param("storeName") String storeName, Pageable pageable);
+
+    // 주문 상세: 주문과 삭제되지 않은 주문 상품의 상품을 한 번의 join 으로 조회 (주문이 없으면 빈 목록)
+    @Query("SELECT new com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto(o, p) FROM Order o "
+            + "LEFT JOIN OrderProduct op ON op.order = o AND op.deletedDate IS NULL "
+            + "LEFT JOIN op.product p WHERE o.id = :orderId")
+    List<OrderDetailRowDto> findDetailRowsById(@Param("orderId") UUID orderId);
+
+    // 목록 조회는 엔티티 대신 응답 DTO 로 바로 조회 (영속성 컨텍스트에 올리지 않음, user/store 는 FK 의 id 만 사용)
+    String ORDER_RESPONSE = "SELECT new com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto("
+            + "o.id, o.store.storeId, o.user.username, o.status, o.type, o.finalPay, o.discountRate, o.discountAmount) ";
+
+    @Query(value = ORDER_RESPONSE + "FROM Order o WHERE o.user = :user AND o.deletedDate IS NULL",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user = :user AND o.deletedDate IS NULL")
+    Page<OrderGetResponseDto> findAllByUserAndNotDeleted(User user, Pageable pageable);
+    @Query(value = ORDER_RESPONSE + "FROM Order o WHERE o.store = :store AND o.deletedDate IS NULL",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.store = :store AND o.deletedDate IS NULL")
+    Page<OrderGetResponseDto> findAllByStoreAndNotDeleted(Store store, Pageable pageable);
+    @Query(value = ORDER_RESPONSE + "FROM Order o", countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<OrderGetResponseDto> findAllResponses(Pageable pageable);
+    // 관리자용 deletedAt이 null이 아닌 것도 포함
+    @Query(value = ORDER_RESPONSE + "FROM Order o WHERE o.store.storeName LIKE %:storeName%",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.store.storeName LIKE %:storeName%")
+    Page<OrderGetResponseDto> findByStoreNameContaining(@Param("storeName") String storeName, Pageable pageable);
+    @Query(value = ORDER_RESPONSE + "FROM Order o WHERE o.store.storeId IN :storeIds",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.store.storeId IN :storeIds")
+    Page<OrderGetResponseDto> findAllByStoreStoreIdIn(@Param("storeIds") Collection<UUID> storeIds,
+                                                      Pageable pageable);
     @Query("SELECT o FROM Order o WHERE o.user = :user AND o.status = 'CREATE' AND o.deletedDate IS NULL")
     Optional<Order> findActiveOrderByUser(User user);
+
+    // 주문 상태 compare-and-set. 현재 상태가 from 중 하나일 때만 변경하며 변경된 행 수를 반환 (0 이면 충돌)
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :to, o.lastModifiedDate = :now "
+            + "WHERE o.id = :id AND o.status IN :from AND o.deletedDate IS NULL")
+    int updateStatusIfIn(@Param("id") UUID id, @Param("from") Collection<OrderStatusEnum> from,
+                         @Param("to") OrderStatusEnum to, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.deletedDate = :now, o.deletedBy = :username, "
+            + "o.lastModifiedDate = :now, o.lastModifiedBy = :username "
+            + "WHERE o.id = :id AND o.status IN :from AND o.deletedDate IS NULL")
+    int softDeleteIfStatusIn(@Param("id") UUID id, @Param("from") Collection<OrderStatusEnum> from,
+                             @Param("username") String username, @Param("now") LocalDateTime now);
 }
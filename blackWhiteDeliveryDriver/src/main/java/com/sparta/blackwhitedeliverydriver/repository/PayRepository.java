@@ -1,26 +1,56 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface PayRepository extends JpaRepository<Pay, UUID> {
+public interface PayRepository extends JpaRepository<Pay, UUID>, JpaSpecificationExecutor<Pay> {
     Optional<Pay> findByOrder(Order order);
 
+    // 결제 상세: 결제, 주문, 삭제되지 않은 주문 상품의 상품을 한 번의 join 으로 조회 (결제가 없으면 빈 목록)
+    @Query("SELECT new com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto(pay, o, p) FROM Pay pay "
+            + "JOIN pay.order o "
+            + "LEFT JOIN OrderProduct op ON op.order = o AND op.deletedDate IS NULL "
+            + "LEFT JOIN op.product p WHERE pay.id = :payId")
+    List<OrderDetailRowDto> findDetailRowsById(@Param("payId") UUID payId);
+
     @Query("select p from  Pay p where p.order.user.username = :username")
     List<Pay> findAllByUser(@Param("username") String username);
 
-    @Query("select p from  Pay p where p.order.user = :user")
-    Page<Pay> findAllByUser(@Param("user") User user, Pageable pageable);
+    // 목록 조회는 엔티티 대신 응답 DTO 로 바로 조회 (영속성 컨텍스트에 올리지 않음)
+    String PAY_RESPONSE = "SELECT new com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto("
+            + "p.id, p.itemName, p.payStatus, p.payAmount, p.refundAmount, p.approvedAt, p.canceledAt) ";
+
+    @Query(value = PAY_RESPONSE + "FROM Pay p WHERE p.order.user = :user",
+            countQuery = "SELECT COUNT(p) FROM Pay p WHERE p.order.user = :user")
+    Page<PayGetResponseDto> findAllByUser(@Param("user") User user, Pageable pageable);
+
+    @Query(value = PAY_RESPONSE + "FROM Pay p", countQuery = "SELECT COUNT(p) FROM Pay p")
+    Page<PayGetResponseDto> findAllResponses(Pageable pageable);
+
+    @Query(value = PAY_RESPONSE + "FROM Pay p WHERE p.order.store.storeName LIKE %:storeName%",
+            countQuery = "SELECT COUNT(p) FROM Pay p WHERE p.order.store.storeName LIKE %:storeName%")
+    Page<PayGetResponseDto> findByStoreNameContaining(@Param("storeName") String storeName, Pageable pageable);
+
+    @Query(value = PAY_RESPONSE + "FROM Pay p WHERE p.order.store.storeId IN :storeIds",
+            countQuery = "SELECT COUNT(p) FROM Pay p WHERE p.order.store.storeId IN :storeIds")
+    Page<PayGetResponseDto> findAllByOrderStoreStoreIdIn(@Param("storeIds") Collection<UUID> storeIds,
+                                                         Pageable pageable);
 
-    @Query("SELECT p FROM Pay p WHERE p.order.store.storeName LIKE %:storeName%")
-    Page<Pay> findByStoreNameContaining(@Param("storeName") String storeName, Pageable pageable);
+    List<Pay> findAllByPayStatusInAndLastModifiedDateBefore(Collection<PayStatusEnum> payStatuses,
+                                                           LocalDateTime lastModifiedDate);
 }
@@ -3,6 +3,7 @@ package com.sparta.blackwhitedeliverydriver.repository;
 import com.sparta.blackwhitedeliverydriver.entity.Product;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
 import jakarta.validation.constraints.NotBlank;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,5 +16,7 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 
     Optional<Product> findByNameAndStoreStoreId(@NotBlank String productName, UUID storeId);
 
-    Page<Product> findAllByStoreAndDeletedDateIsNullAndDeletedByIsNull(Store store, Pageable pageable);
+    List<Product> findAllByProductIdInAndStoreStoreId(Collection<UUID> productIds, UUID storeId);
+
+    Page<Product> findAllByStoreStoreIdAndDeletedDateIsNullAndDeletedByIsNull(UUID storeId, Pageable pageable);
 }
@@ -0,0 +1,34 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.RefundJob;
+import com.sparta.blackwhitedeliverydriver.entity.RefundJobStatusEnum;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface RefundJobRepository extends JpaRepository<RefundJob, UUID> {
+
+    // 처리할 차례가 된 작업과 처리 중 멈춘 작업(서버 재시작 등)을 가져온다.
+    // 여러 인스턴스가 같은 작업을 가져가지 않도록 잠긴 행은 건너뛴다. (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select j from RefundJob j "
+            + "where (j.status = com.sparta.blackwhitedeliverydriver.entity.RefundJobStatusEnum.PENDING "
+            + "and j.nextAttemptAt <= :now) "
+            + "or (j.status = com.sparta.blackwhitedeliverydriver.entity.RefundJobStatusEnum.PROCESSING "
+            + "and j.lastModifiedDate < :staleBefore) "
+            + "order by j.nextAttemptAt")
+    List<RefundJob> findDueJobs(@Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore,
+                                Pageable pageable);
+
+    boolean existsByPayIdAndStatusIn(UUID payId, Collection<RefundJobStatusEnum> statuses);
+}
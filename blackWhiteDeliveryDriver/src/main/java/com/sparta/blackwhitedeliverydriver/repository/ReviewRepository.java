@@ -1,12 +1,31 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Review;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReviewRepository extends JpaRepository<Review, UUID> {
-    Page<Review> findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull(UUID storeId, Pageable pageable);
-    Page<Review> findAllByOrderUserUsernameAndDeletedByIsNullAndDeletedDateIsNull(String username, Pageable pageable);
+public interface ReviewRepository extends JpaRepository<Review, UUID>, JpaSpecificationExecutor<Review> {
+    // 목록 조회는 엔티티 대신 응답 DTO 로 바로 조회 (영속성 컨텍스트에 올리지 않음)
+    String REVIEW_RESPONSE = "SELECT new com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto("
+            + "r.id, r.contents, r.rating) ";
+
+    @Query(value = REVIEW_RESPONSE + "FROM Review r WHERE r.order.store.storeId = :storeId "
+            + "AND r.deletedBy IS NULL AND r.deletedDate IS NULL",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.order.store.storeId = :storeId "
+                    + "AND r.deletedBy IS NULL AND r.deletedDate IS NULL")
+    Page<ReviewResponseDto> findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull(
+            @Param("storeId") UUID storeId, Pageable pageable);
+
+    @Query(value = REVIEW_RESPONSE + "FROM Review r WHERE r.order.user.username = :username "
+            + "AND r.deletedBy IS NULL AND r.deletedDate IS NULL",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.order.user.username = :username "
+                    + "AND r.deletedBy IS NULL AND r.deletedDate IS NULL")
+    Page<ReviewResponseDto> findAllByOrderUserUsernameAndDeletedByIsNullAndDeletedDateIsNull(
+            @Param("username") String username, Pageable pageable);
 }
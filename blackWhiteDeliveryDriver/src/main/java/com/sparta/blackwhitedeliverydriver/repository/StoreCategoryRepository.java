@@ -2,7 +2,10 @@ package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,6 +13,15 @@ import java.util.UUID;
 public interface StoreCategoryRepository extends JpaRepository<StoreCategory, UUID> {
     List<StoreCategory> findAllByStoreStoreId(UUID storeId);
 
+    // 한 페이지의 점포 카테고리를 한 번의 조회로 가져오기 위한 쿼리 (카테고리 이름은 CategoryCache에서 채움)
+    List<StoreCategory> findAllByStoreStoreIdIn(Collection<UUID> storeIds);
+
+    // 읽기 모델 재구성 시 카테고리 이름까지 한 번에 가져오기 위한 쿼리
+    @Query("SELECT sc FROM StoreCategory sc JOIN FETCH sc.category WHERE sc.store.storeId IN :storeIds")
+    List<StoreCategory> findAllWithCategoryByStoreIdIn(@Param("storeIds") Collection<UUID> storeIds);
+
+    List<StoreCategory> findAllByCategoryCategoryId(UUID categoryId);
+
     Optional<StoreCategory> findByStoreStoreIdAndCategoryCategoryId(UUID storeId, UUID categoryId);
 
     void deleteAllByStoreStoreId(UUID storeId);
@@ -0,0 +1,20 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.StoreFront;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface StoreFrontRepository extends JpaRepository<StoreFront, UUID>, JpaSpecificationExecutor<StoreFront> {
+
+    Page<StoreFront> findAllByIsPublicTrue(Pageable pageable);
+
+    Page<StoreFront> findAllByUsernameAndIsPublicTrue(String username, Pageable pageable);
+
+    Page<StoreFront> findAllByStoreNameContaining(String storeName, Pageable pageable);
+
+    Page<StoreFront> findAllByStoreIdIn(Collection<UUID> storeIds, Pageable pageable);
+}
@@ -1,13 +1,18 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.StoreNameDto;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StoreRepository extends JpaRepository<Store, UUID>{
 
@@ -24,4 +29,16 @@ public interface StoreRepository extends JpaRepository<Store, UUID>{
     Optional<Store> findByStoreIdAndIsPublicTrue(UUID storeId);
 
     Page<Store> findAllByUserAndDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(User user, Pageable pageable);
+
+    // 주문/결제 검색에서 삭제된 점포 이름도 찾을 수 있도록 삭제 여부와 관계없이 전체 조회
+    @Query("SELECT new com.sparta.blackwhitedeliverydriver.dto.StoreNameDto(s.storeId, s.storeName) FROM Store s")
+    List<StoreNameDto> findAllStoreNames();
+
+    @Query("SELECT s.menuVersion FROM Store s WHERE s.storeId = :storeId")
+    Optional<Long> findMenuVersionById(@Param("storeId") UUID storeId);
+
+    // 메뉴 변경 트랜잭션 안에서 버전을 올려, 커밋 이후의 메뉴 조회가 새 캐시 키를 쓰도록 함
+    @Modifying
+    @Query("UPDATE Store s SET s.menuVersion = s.menuVersion + 1 WHERE s.storeId = :storeId")
+    int increaseMenuVersion(@Param("storeId") UUID storeId);
 }
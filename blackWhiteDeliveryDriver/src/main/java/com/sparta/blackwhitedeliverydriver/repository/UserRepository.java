@@ -1,10 +1,14 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
@@ -15,5 +19,10 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     Page<User> findByUsernameContainingAndDeletedByIsNullAndDeletedDateIsNullAndPublicProfileIsTrue(String keyword, Pageable pageable);
 
+    // 같은 유저의 요청을 한 번에 하나씩 처리하기 위한 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.username = :username")
+    Optional<User> findByUsernameForUpdate(@Param("username") String username);
+
     Optional<User> findByUsernameAndDeletedDateIsNullAndDeletedByIsNullAndPublicProfileTrue(String username);
 }
\ No newline at end of file
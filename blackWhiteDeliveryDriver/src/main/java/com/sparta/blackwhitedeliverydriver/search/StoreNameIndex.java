@@ -0,0 +1,193 @@
+package com.sparta.blackwhitedeliverydriver.search;
+
+import com.sparta.blackwhitedeliverydriver.dto.StoreNameDto;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 점포 이름 부분 검색용 2-gram 역색인
+// LIKE '%이름%' 조건은 B-tree 인덱스를 탈 수 없으므로 이름 조각을 메모리에서 storeId 집합으로 바꾼 뒤
+// 점포/주문/결제 검색을 store_id IN (...) 조회로 처리한다.
+@Slf4j(topic = "StoreNameIndex")
+@Component
+public class StoreNameIndex {
+
+    // 일치하는 점포가 이보다 많으면 IN 절 이점이 없으므로 기존 LIKE 조회로 처리
+    public static final int MAX_MATCHES = 1000;
+    private static final int GRAM_SIZE = 2;
+
+    private final StoreRepository storeRepository;
+    private final Counter indexedCounter;
+    private final Counter fallbackCounter;
+
+    // 재적재 중에도 조회 스레드가 완성된 색인만 보도록 통째로 교체 (개별 점포 반영은 현재 색인에 직접 추가)
+    private volatile Snapshot snapshot;
+
+    public StoreNameIndex(StoreRepository storeRepository, MeterRegistry meterRegistry) {
+        this.storeRepository = storeRepository;
+        this.indexedCounter = Counter.builder("store.name.index")
+                .tag("result", "indexed")
+                .description("점포 이름 색인으로 처리한 검색 횟수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("store.name.index")
+                .tag("result", "fallback")
+                .description("LIKE 조회로 넘긴 검색 횟수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // 다른 인스턴스에서 등록/수정된 점포 이름도 주기적으로 반영
+    @Scheduled(fixedDelayString = "${store.search.reload-interval-ms:600000}",
+            initialDelayString = "${store.search.reload-interval-ms:600000}")
+    public synchronized void reload() {
+        List<StoreNameDto> storeNames = storeRepository.findAllStoreNames();
+        Snapshot newSnapshot = new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        for (StoreNameDto storeName : storeNames) {
+            newSnapshot.put(storeName.getStoreId(), storeName.getStoreName());
+        }
+
+        snapshot = newSnapshot;
+        log.info("점포 이름 색인 적재 완료: {}건, gram {}개", storeNames.size(), newSnapshot.idsByGram().size());
+    }
+
+    // 이름 조각이 포함된 점포 id 목록. 색인으로 좁힐 수 없는 경우(적재 전, 빈 검색어, 일치 건수 초과)는 empty
+    // 일치하는 점포가 없을 때도 empty: 다른 인스턴스에서 등록/수정된 이름은 다음 재적재 전까지 색인에 없으므로
+    // 빈 결과로 끝내지 않고 LIKE 조회로 DB 에서 확인한다.
+    public Optional<Set<UUID>> findStoreIds(String fragment) {
+        Snapshot current = snapshot;
+        if (current == null || fragment == null || fragment.isEmpty()) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        Collection<UUID> candidates = candidates(current, fragment);
+        // 검색어가 gram 하나와 같으면 후보가 곧 결과이므로 건수만 보고 바로 판단
+        if (fragment.length() == GRAM_SIZE && candidates.size() > MAX_MATCHES) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        Set<UUID> storeIds = new HashSet<>();
+        for (UUID storeId : candidates) {
+            String storeName = current.nameById().get(storeId);
+            // gram 이 모두 포함되어도 연속된 문자열이 아닐 수 있으므로 원래 이름으로 한 번 더 확인
+            if (storeName != null && storeName.contains(fragment)) {
+                storeIds.add(storeId);
+                if (storeIds.size() > MAX_MATCHES) {
+                    fallbackCounter.increment();
+                    return Optional.empty();
+                }
+            }
+        }
+
+        if (storeIds.isEmpty()) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        indexedCounter.increment();
+        return Optional.of(storeIds);
+    }
+
+    // 점포 등록/수정 트랜잭션이 커밋된 뒤에 색인에 반영 (롤백 시에는 반영하지 않음)
+    public void putAfterCommit(Store store) {
+        UUID storeId = store.getStoreId();
+        String storeName = store.getStoreName();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(storeId, storeName);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(storeId, storeName);
+            }
+        });
+    }
+
+    public synchronized void put(UUID storeId, String storeName) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 최초 적재 전이면 적재 시점에 DB 에서 함께 읽어온다
+            return;
+        }
+        current.put(storeId, storeName);
+    }
+
+    // 검색어의 gram 중 가장 적은 점포를 가진 목록만 후보로 확인
+    private Collection<UUID> candidates(Snapshot current, String fragment) {
+        if (fragment.length() < GRAM_SIZE) {
+            return current.nameById().keySet();
+        }
+
+        Set<UUID> smallest = null;
+        for (String gram : grams(fragment)) {
+            Set<UUID> storeIds = current.idsByGram().get(gram);
+            if (storeIds == null) {
+                return Set.of();
+            }
+            if (smallest == null || storeIds.size() < smallest.size()) {
+                smallest = storeIds;
+            }
+        }
+        return smallest;
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private record Snapshot(Map<UUID, String> nameById, Map<String, Set<UUID>> idsByGram) {
+
+        void put(UUID storeId, String storeName) {
+            String oldName = nameById.put(storeId, storeName);
+            Set<String> newGrams = grams(storeName);
+            if (oldName != null) {
+                for (String gram : grams(oldName)) {
+                    if (!newGrams.contains(gram)) {
+                        removeGram(gram, storeId);
+                    }
+                }
+            }
+            for (String gram : newGrams) {
+                idsByGram.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(storeId);
+            }
+        }
+
+        private void removeGram(String gram, UUID storeId) {
+            Set<UUID> storeIds = idsByGram.get(gram);
+            if (storeIds == null) {
+                return;
+            }
+            storeIds.remove(storeId);
+            if (storeIds.isEmpty()) {
+                idsByGram.remove(gram);
+            }
+        }
+    }
+}
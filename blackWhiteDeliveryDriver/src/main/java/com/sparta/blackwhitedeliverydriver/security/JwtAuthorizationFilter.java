@@ -2,7 +2,9 @@ package com.sparta.blackwhitedeliverydriver.security;
 
 import static com.sparta.blackwhitedeliverydriver.security.SecurityExceptionHandler.jwtExceptionHandler;
 
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.CustomJwtException;
+import com.sparta.blackwhitedeliverydriver.exception.JwtExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.jwt.JwtUtil;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -23,11 +25,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
     }
 
     @Override
@@ -37,10 +37,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(tokenValue)) {
             try {
-                jwtUtil.validateToken(tokenValue); // 유효성 검증 중 예외 발생 가능
-
-                Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
-                setAuthentication(info.getSubject());
+                Claims info = jwtUtil.verifyToken(tokenValue); // 유효성 검증 중 예외 발생 가능
+                String role = info.get(JwtUtil.AUTHORIZATION_KEY, String.class);
+                if (role == null) {
+                    throw new CustomJwtException(JwtExceptionMessage.CLAIM_IS_EMPTY.getMessage());
+                }
+                setAuthentication(info.getSubject(), UserRoleEnum.valueOf(role));
             } catch (CustomJwtException e) {
                 // JWT 검증 관련 예외 처리
                 log.error("JWT validation failed: {}", e.getMessage());
@@ -58,17 +60,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     }
 
     // 인증 처리
-    public void setAuthentication(String username) {
+    public void setAuthentication(String username, UserRoleEnum role) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(username, role);
         context.setAuthentication(authentication);
 
         SecurityContextHolder.setContext(context);
     }
 
-    // 인증 객체 생성
-    private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    // 인증 객체 생성 (토큰에 담긴 username, 권한으로 만들기 때문에 요청마다 사용자 조회를 하지 않음)
+    private Authentication createAuthentication(String username, UserRoleEnum role) {
+        UserDetails userDetails = UserDetailsImpl.fromClaims(username, role);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
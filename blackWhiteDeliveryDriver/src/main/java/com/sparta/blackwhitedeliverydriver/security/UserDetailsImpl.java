@@ -16,6 +16,16 @@ public class UserDetailsImpl implements UserDetails {
         this.user = user;
     }
 
+    // 검증된 JWT 의 subject 와 권한만으로 만든 인증 정보 (DB 조회 없음)
+    // username, role 외의 필드는 비어 있으므로 나머지 사용자 정보가 필요하면 UserCache 나 UserRepository 에서 조회
+    public static UserDetailsImpl fromClaims(String username, UserRoleEnum role) {
+        User user = User.builder()
+                .username(username)
+                .role(role)
+                .build();
+        return new UserDetailsImpl(user);
+    }
+
     public User getUser() {
         return user;
     }
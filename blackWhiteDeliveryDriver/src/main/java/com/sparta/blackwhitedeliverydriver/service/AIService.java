@@ -1,76 +1,308 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.AIResponseCache;
+import com.sparta.blackwhitedeliverydriver.client.GeminiClient;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchItemRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchItemResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.AIRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.AIResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.AI;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.exception.ProductExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
 import com.sparta.blackwhitedeliverydriver.repository.AIRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
 import jakarta.validation.Valid;
-import java.net.URI;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.ResponseEntity;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+@Slf4j(topic = "AIService")
 @Service
 public class AIService {
-    private static final String AI_REQUEST_URI = "https://generativelanguage.googleapis.com";
-    private static final String AI_REQUEST_PATH = "/v1beta/models/gemini-1.5-flash-latest:generateContent";
     private static final String MAX_LENGTH_PROMPT_MESSAGE = ", 답변을 최대한 간결하게 50자 이하로";
+    private static final String BATCH_PROMPT_MESSAGE =
+            "다음 각 항목에 대해 답변을 최대한 간결하게 50자 이하로 작성하고, 항목 순서대로 답변만 담은 JSON 문자열 배열로 응답해줘.";
 
-    @Value("${gemini.api.key}")
-    private String geminiApiKey;
-    private final RestTemplate restTemplate;
+    private final GeminiClient geminiClient;
+    private final AIResponseCache aiResponseCache;
     private final AIRepository aiRepository;
+    private final UserRepository userRepository;
+    private final StoreRepository storeRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final long streamTimeoutMs;
+    // 일괄 생성 시 Gemini 요청 1건에 담는 항목 수
+    private final int batchItemsPerCall;
 
     @Autowired
-    public AIService(RestTemplateBuilder builder, AIRepository aiRepository) {
-        this.restTemplate = builder.build();
+    public AIService(GeminiClient geminiClient, AIResponseCache aiResponseCache, AIRepository aiRepository,
+                     UserRepository userRepository, StoreRepository storeRepository,
+                     ProductRepository productRepository, TransactionTemplate transactionTemplate,
+                     @Qualifier("aiTaskExecutor") ThreadPoolTaskExecutor aiTaskExecutor,
+                     @Value("${ai.stream.timeout-ms:60000}") long streamTimeoutMs,
+                     @Value("${ai.batch.items-per-call:20}") int batchItemsPerCall) {
+        this.geminiClient = geminiClient;
+        this.aiResponseCache = aiResponseCache;
         this.aiRepository = aiRepository;
+        this.userRepository = userRepository;
+        this.storeRepository = storeRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.aiTaskExecutor = aiTaskExecutor;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.batchItemsPerCall = batchItemsPerCall;
     }
 
     public AIResponseDto recommendProductNames(@Valid AIRequestDto requestDto, User user) {
-        AIResponseDto responseDto = getAIResponse(requestDto);
+        AIResponseDto responseDto = getAIResponse(requestDto.getPrompt());
 
-        AI ai = AI.fromRequestDtoAndResponseDtoToAI(requestDto, responseDto, user);
+        // 인증 정보의 User 는 토큰 값으로만 만든 객체이므로 저장 시에는 프록시 참조로 연결 (조회 쿼리 없음)
+        User userReference = userRepository.getReferenceById(user.getUsername());
+        AI ai = AI.fromRequestDtoAndResponseDtoToAI(requestDto, responseDto, userReference);
 
         aiRepository.save(ai);
 
         return responseDto;
     }
 
-    private AIResponseDto getAIResponse(AIRequestDto requestDto) {
-        URI uri = buildUri();
+    // Gemini 응답 조각을 받는 대로 SSE 로 전달 (chunk 이벤트 여러 번 후 done 이벤트에 전체 응답)
+    // 요청 스레드는 emitter 만 반환하고 바로 풀려나며, 전체 응답이 오면 p_ai 저장은 별도 스레드 풀에서 처리한다.
+    // 캐시된 응답이나 진행 중인 같은 질문이 있으면 Gemini 를 호출하지 않고 결과를 한 번에 보낸다.
+    public SseEmitter streamProductNames(@Valid AIRequestDto requestDto, User user) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+        emitter.onCompletion(() -> clientGone.set(true));
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(throwable -> clientGone.set(true));
 
-        Map<String, Object> requestBody = buildRequestBody(requestDto);
+        AtomicBoolean streamed = new AtomicBoolean(false);
+        String username = user.getUsername();
+        aiResponseCache.getAsync(requestDto.getPrompt(), MAX_LENGTH_PROMPT_MESSAGE, () -> {
+                    streamed.set(true);
+                    StringBuilder answer = new StringBuilder();
+                    // 클라이언트가 먼저 끊어도 응답은 끝까지 받아 캐시/저장에 사용
+                    return geminiClient.streamGenerateContent(buildRequestBody(requestDto.getPrompt() + MAX_LENGTH_PROMPT_MESSAGE), text -> {
+                                answer.append(text);
+                                send(emitter, clientGone, "chunk", text);
+                            })
+                            .thenApply(ignored -> answer.toString());
+                })
+                .whenComplete((answer, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                        send(emitter, clientGone, "error", errorMessage(cause));
+                        emitter.complete();
+                        return;
+                    }
+                    if (!streamed.get()) {
+                        send(emitter, clientGone, "chunk", answer);
+                    }
+                    send(emitter, clientGone, "done", new AIResponseDto(answer));
+                    emitter.complete();
+                    aiTaskExecutor.execute(() -> saveAnswer(requestDto, answer, username));
+                });
 
-        RequestEntity<Map<String, Object>> requestEntity = RequestEntity.post(uri)
-                .body(requestBody);
+        return emitter;
+    }
+
+    // 메뉴 여러 개의 소개를 한 번에 생성
+    // 캐시에 없는 질문만 모아 Gemini 요청 1건에 batchItemsPerCall 개씩 담아 보내고, 응답 배열을 항목별로 나눠 돌려준다.
+    // Gemini 호출은 트랜잭션 밖에서 하고, p_ai 기록과 음식 소개 반영은 마지막에 한 트랜잭션에서 일괄 저장한다.
+    public AIBatchResponseDto recommendProductIntros(AIBatchRequestDto requestDto, User user) {
+        checkStoreOwner(requestDto.getStoreId(), user);
+        Set<UUID> productIds = requestDto.isApplyToProducts() ? getProductIds(requestDto) : Set.of();
+        checkProductsOfStore(productIds, requestDto.getStoreId());
+
+        Map<String, String> answers = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (AIBatchItemRequestDto item : requestDto.getItems()) {
+            String prompt = item.getPrompt();
+            if (answers.containsKey(prompt) || misses.contains(prompt)) {
+                continue;
+            }
+            aiResponseCache.getIfPresent(prompt, MAX_LENGTH_PROMPT_MESSAGE)
+                    .ifPresentOrElse(answer -> answers.put(prompt, answer), () -> misses.add(prompt));
+        }
+        for (int from = 0; from < misses.size(); from += batchItemsPerCall) {
+            answers.putAll(generateBatch(misses.subList(from, Math.min(from + batchItemsPerCall, misses.size()))));
+        }
+
+        List<AIBatchItemResponseDto> items = requestDto.getItems().stream()
+                .map(item -> AIBatchItemResponseDto.of(item, answers.get(item.getPrompt())))
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User userReference = userRepository.getReferenceById(user.getUsername());
+            aiRepository.saveAll(items.stream()
+                    .map(item -> AI.of(item.getPrompt(), item.getAnswer(), userReference))
+                    .toList());
+
+            if (!productIds.isEmpty()) {
+                Map<UUID, String> introByProductId = new HashMap<>();
+                items.stream()
+                        .filter(item -> item.getProductId() != null)
+                        .forEach(item -> introByProductId.put(item.getProductId(), item.getAnswer()));
+                productRepository.findAllById(productIds)
+                        .forEach(product -> product.updateIntro(introByProductId.get(product.getProductId())));
+                storeRepository.increaseMenuVersion(requestDto.getStoreId());
+            }
+        });
+
+        return new AIBatchResponseDto(items);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCache() {
+        aiResponseCache.warmUp(MAX_LENGTH_PROMPT_MESSAGE);
+    }
+
+    // 같은 질문은 캐시된 응답 또는 진행 중인 호출의 응답 사용 (질문 기록은 캐시 여부와 관계없이 p_ai 에 저장)
+    private AIResponseDto getAIResponse(String prompt) {
+        String answer = aiResponseCache.get(prompt, MAX_LENGTH_PROMPT_MESSAGE, () -> {
+            Map<String, Object> requestBody = buildRequestBody(prompt + MAX_LENGTH_PROMPT_MESSAGE);
+
+            String responseBody = geminiClient.generateContent(requestBody);
+
+            return fromJSONtoResponseDto(responseBody).getAnswer();
+        });
+        return new AIResponseDto(answer);
+    }
+
+    // 질문 목록을 번호를 붙여 한 요청에 담고, 응답은 JSON 배열로 받도록 지정
+    // 응답 개수가 맞지 않으면 묶음을 반으로 나눠 다시 요청한다.
+    // 질문별 단건 호출로 바로 나누면 한 묶음(최대 batchItemsPerCall 건)이 Gemini 분당 호출 제한을 넘겨 전체가 실패하므로,
+    // 호출 수가 늘어나는 것은 개수가 계속 맞지 않는 쪽 절반뿐이다.
+    private Map<String, String> generateBatch(List<String> prompts) {
+        Map<String, String> answers = new HashMap<>();
+        if (prompts.size() > 1) {
+            StringBuilder text = new StringBuilder(BATCH_PROMPT_MESSAGE);
+            for (int i = 0; i < prompts.size(); i++) {
+                text.append('\n').append(i + 1).append(". ").append(prompts.get(i));
+            }
+            Map<String, Object> requestBody = buildRequestBody(text.toString());
+            requestBody.put("generationConfig", Map.of("responseMimeType", "application/json"));
+
+            List<String> batchAnswers = parseBatchAnswers(
+                    fromJSONtoResponseDto(geminiClient.generateContent(requestBody)).getAnswer());
+            if (batchAnswers.size() == prompts.size()) {
+                for (int i = 0; i < prompts.size(); i++) {
+                    answers.put(prompts.get(i), batchAnswers.get(i));
+                    aiResponseCache.put(prompts.get(i), MAX_LENGTH_PROMPT_MESSAGE, batchAnswers.get(i));
+                }
+                return answers;
+            }
+            log.warn("AI 일괄 응답 개수 불일치: 요청 {}건, 응답 {}건", prompts.size(), batchAnswers.size());
+
+            int half = prompts.size() / 2;
+            answers.putAll(generateBatch(prompts.subList(0, half)));
+            answers.putAll(generateBatch(prompts.subList(half, prompts.size())));
+            return answers;
+        }
+
+        answers.put(prompts.get(0), getAIResponse(prompts.get(0)).getAnswer());
+        return answers;
+    }
+
+    private List<String> parseBatchAnswers(String answer) {
+        try {
+            JSONArray array = new JSONArray(answer.strip());
+            List<String> answers = new ArrayList<>();
+            for (int i = 0; i < array.length(); i++) {
+                answers.add(array.getString(i).strip());
+            }
+            return answers;
+        } catch (JSONException e) {
+            return List.of();
+        }
+    }
+
+    private void checkStoreOwner(UUID storeId, User user) {
+        Store store = storeRepository.findById(storeId).orElseThrow(
+                () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
+        );
+        if (!store.getUser().getUsername().equals(user.getUsername())) {
+            throw new IllegalArgumentException(StoreExceptionMessage.FORBIDDEN_ACCESS.getMessage());
+        }
+    }
+
+    private Set<UUID> getProductIds(AIBatchRequestDto requestDto) {
+        return requestDto.getItems().stream()
+                .map(AIBatchItemRequestDto::getProductId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    // 다른 점포의 음식이나 없는 음식이 섞여 있으면 Gemini 호출 전에 거절
+    private void checkProductsOfStore(Set<UUID> productIds, UUID storeId) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<Product> products = productRepository.findAllByProductIdInAndStoreStoreId(productIds, storeId);
+        if (products.size() != productIds.size()) {
+            throw new NullPointerException(ProductExceptionMessage.PRODUCT_NOT_FOUND.getMessage());
+        }
+    }
 
-        ResponseEntity<String> responseEntity = restTemplate.exchange(requestEntity, String.class);
+    private void saveAnswer(AIRequestDto requestDto, String answer, String username) {
+        try {
+            User userReference = userRepository.getReferenceById(username);
+            aiRepository.save(AI.fromRequestDtoAndResponseDtoToAI(requestDto, new AIResponseDto(answer), userReference));
+        } catch (RuntimeException e) {
+            log.warn("AI 스트리밍 응답 저장 실패: {}", e.getMessage());
+        }
+    }
 
-        return fromJSONtoResponseDto(responseEntity.getBody());
+    // 클라이언트가 끊긴 뒤에는 보내지 않음
+    private void send(SseEmitter emitter, AtomicBoolean clientGone, String eventName, Object data) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException e) {
+            clientGone.set(true);
+        }
     }
 
-    private URI buildUri() {
-        return UriComponentsBuilder.fromUriString(AI_REQUEST_URI)
-                .path(AI_REQUEST_PATH)
-                .queryParam("key", geminiApiKey)
-                .encode()
-                .build()
-                .toUri();
+    private String errorMessage(Throwable cause) {
+        if (cause instanceof UpstreamUnavailableException) {
+            return cause.getMessage();
+        }
+        return UpstreamExceptionMessage.AI_UNAVAILABLE.getMessage();
     }
 
-    private Map<String, Object> buildRequestBody(AIRequestDto requestDto) {
+    private Map<String, Object> buildRequestBody(String text) {
         /* Gemini API 요청 json 형식
         {
             "contents":[
@@ -92,7 +324,7 @@ public class AIService {
         Map<String, Object> part = new HashMap<>();
 
         // 사용자가 입력한 prompt를 parts 내부 Object에 "text"로 추가
-        part.put("text", requestDto.getPrompt() + MAX_LENGTH_PROMPT_MESSAGE);
+        part.put("text", text);
         // "text"로 추가한 part를 parts 배열에 추가
         parts.add(part);
         // parts 배열을 contents 배열에 추가
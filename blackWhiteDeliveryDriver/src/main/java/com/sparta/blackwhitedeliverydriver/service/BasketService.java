@@ -4,6 +4,7 @@ import com.sparta.blackwhitedeliverydriver.dto.BasketAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketUpdateRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Basket;
 import com.sparta.blackwhitedeliverydriver.entity.Product;
 import com.sparta.blackwhitedeliverydriver.entity.User;
@@ -12,17 +13,20 @@ import com.sparta.blackwhitedeliverydriver.exception.BasketExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.BasketRepository;
+import com.sparta.blackwhitedeliverydriver.repository.CursorSpecifications;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -84,23 +88,34 @@ public class BasketService {
         User user = checkValidUser(username);
 
         //페이징
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.BASKET.pageable(page, size, sortBy, isAsc);
 
         Page<Basket> baskets;
         if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
             baskets = basketRepository.findAllByUserAndNotDeleted(user, pageable);
         } else {
-            baskets = basketRepository.findAll(pageable);
+            baskets = basketRepository.findAllWithStoreAndProduct(pageable);
         }
 
         return baskets.map(BasketGetResponseDto::fromBasket);
     }
 
+    public CursorPageResponseDto<BasketGetResponseDto> getBasketsByCursor(String username, String cursor, int size,
+                                                                          boolean isAsc) {
+        // 유저 유효성 검증
+        User user = checkValidUser(username);
+
+        //커서 페이징
+        size = PagingPolicy.BASKET.size(size);
+        Specification<Basket> specification = user.getRole().equals(UserRoleEnum.CUSTOMER)
+                ? CursorSpecifications.basketsOfUser(user)
+                : Specification.where(null);
+        Window<Basket> baskets = CursorUtil.scroll(basketRepository, specification, cursor, size, isAsc, "id");
+
+        return CursorPageResponseDto.of(baskets, BasketGetResponseDto::fromBasket,
+                basket -> CursorUtil.encode(basket.getCreatedDate(), basket.getId()));
+    }
+
     @Transactional
     public BasketResponseDto updateBasket(String username, BasketUpdateRequestDto request) {
         //유저 유효성 검사
@@ -125,12 +140,7 @@ public class BasketService {
 
         // 페이징과 정렬 정보 생성
         //페이징
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.BASKET.pageable(page, size, sortBy, isAsc);
 
         // 데이터 조회 및 변환
         Page<Basket> baskets = basketRepository.findByProductNameContainingAndUserAndNotDeleted(productName, user,
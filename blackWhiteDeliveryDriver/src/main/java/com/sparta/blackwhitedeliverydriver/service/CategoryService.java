@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.CategoryCache;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryResponseDto;
@@ -7,11 +8,10 @@ import com.sparta.blackwhitedeliverydriver.entity.Category;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.exception.CategoryExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +23,8 @@ import java.util.*;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final StoreFrontService storeFrontService;
 
     @Transactional
     public List<Category> getOrCreateCategory(String categoryNames, User user) {
@@ -32,29 +34,28 @@ public class CategoryService {
                 .forEach(categorySet::add);
 
         List<Category> categoryList = new ArrayList<>();
+        List<Category> newCategoryList = new ArrayList<>();
         for(String categoryName : categorySet) {
             Category category = categoryRepository.findByName(categoryName)
                     .orElseGet(() -> {
                         // 없으면 새로 생성하고 저장 -> 예외 처리하기
                         Category newCategory = Category.from(categoryName);
-                        categoryList.add(newCategory);
+                        newCategoryList.add(newCategory);
                         return categoryRepository.save(newCategory);
                     });
             categoryList.add(category);
         }
+        // 새로 저장한 카테고리가 있을 때만 다시 적재
+        if (!newCategoryList.isEmpty()) {
+            categoryCache.reloadAfterCommit();
+        }
 
         return categoryList;
     }
 
     public Page<CategoryResponseDto> getAllCategories(int page, int size, String sortBy, boolean isAsc) {
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-
         // 페이징 처리
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.CATEGORY.pageable(page, size, sortBy, isAsc);
 
         Page<Category> categoryPage = categoryRepository.findAll(pageable);
 
@@ -67,6 +68,7 @@ public class CategoryService {
 
         Category category = Category.from(requestDto.getName());
         categoryRepository.save(category);
+        categoryCache.reloadAfterCommit();
 
         return new CategoryIdResponseDto(category.getCategoryId());
     }
@@ -80,6 +82,9 @@ public class CategoryService {
 
         category.update(requestDto.getName());
         categoryRepository.save(category);
+        // 카테고리 이름이 바뀌면 해당 카테고리를 가진 점포의 읽기 모델도 갱신
+        storeFrontService.refreshByCategory(category.getCategoryId());
+        categoryCache.reloadAfterCommit();
 
         return new CategoryIdResponseDto(category.getCategoryId());
     }
@@ -90,6 +95,7 @@ public class CategoryService {
                 .orElseThrow(() -> new IllegalArgumentException(CategoryExceptionMessage.CATEGORY_NOT_FOUND.getMessage()));
 
         categoryRepository.delete(category);
+        categoryCache.reloadAfterCommit();
 
         return new CategoryIdResponseDto(category.getCategoryId());
     }
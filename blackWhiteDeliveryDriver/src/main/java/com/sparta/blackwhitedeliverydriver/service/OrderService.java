@@ -1,6 +1,10 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
+import com.sparta.blackwhitedeliverydriver.cache.UserCache;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderResponseDto;
@@ -18,22 +22,30 @@ import com.sparta.blackwhitedeliverydriver.exception.BasketExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.feed.OrderFeedHub;
 import com.sparta.blackwhitedeliverydriver.repository.BasketRepository;
+import com.sparta.blackwhitedeliverydriver.repository.CursorSpecifications;
 import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
@@ -45,31 +57,37 @@ public class OrderService {
     private final OrderProductRepository orderProductRepository;
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
+    private final StoreNameIndex storeNameIndex;
+    private final UserCache userCache;
+    private final OrderStateMachine orderStateMachine;
+    private final OrderFeedHub orderFeedHub;
+    private final DetailResponseCache detailResponseCache;
 
     private final PayService payService;
 
     @Transactional
     public OrderResponseDto createOrder(String username, OrderAddRequestDto request) {
-        //유저 유효성 검사
-        User user = userRepository.findById(username)
+        //유저 유효성 검사 (유저 행을 잠가 같은 유저의 주문 생성은 한 번에 하나씩 처리 -> 중복 주문 방지)
+        User user = userRepository.findByUsernameForUpdate(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
         //이미 존재하는 주문 건이 있는지 확인
         checkCreatedOrderByUser(user);
 
-        //유저와 관련된 장바구니 품목 찾기
-        List<Basket> baskets = basketRepository.findAllByUserAndNotDeleted(user);
+        //유저와 관련된 장바구니 품목 찾기 (음식, 가게까지 한 번에 조회)
+        List<Basket> baskets = basketRepository.findAllWithProductByUserAndNotDeleted(user);
 
         //장바구니 개수 체크
         checkBasketCount(baskets);
 
-        //order 엔티티 생성 및 저장
+        //최종금액을 먼저 계산해 order 엔티티를 한 번만 저장
         Store store = baskets.get(0).getStore();
         Order order = Order.ofUserAndStore(user, store, request.getType());
+        order.updateFinalPay(calculateFinalPay(baskets));
         order = orderRepository.save(order);
 
-        //연관관계 테이블에 장바구니 품목 저장
+        //연관관계 테이블에 장바구니 품목 저장 (JDBC batch insert)
         List<OrderProduct> orderProducts = new ArrayList<>();
         for (Basket basket : baskets) {
             Product product = basket.getProduct();
@@ -78,29 +96,52 @@ public class OrderService {
         }
         orderProductRepository.saveAll(orderProducts);
 
-        //장바구니 삭제
-        for (Basket basket : baskets) {
-            basket.softDelete(username, LocalDateTime.now());
-            basketRepository.save(basket);
-        }
-
-        //최종금액 계산 및 업데이트
-        int price = calculateFinalPay(orderProducts);
-        order.updateFinalPay(price);
-        orderRepository.save(order);
+        //장바구니 삭제 (UPDATE 한 번)
+        List<UUID> basketIds = baskets.stream().map(Basket::getId).toList();
+        basketRepository.softDeleteAllByIdIn(basketIds, username, LocalDateTime.now());
 
         return new OrderResponseDto(order.getId());
     }
 
     public OrderGetDetailResponseDto getOrderDetail(String username, UUID orderId) {
         //유저 유효성
-        User user = userRepository.findById(username)
+        User user = userCache.findByUsername(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
-        //주문 유효성
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+        return loadOrderDetail(user, orderId);
+    }
+
+    // 주문 상세 응답을 직렬화된 본문과 ETag 로 반환. 완료/취소된 주문은 처음 조회할 때 캐시에 넣고 이후에는 캐시에서 응답
+    public DetailResponseCache.Entry getOrderDetailResponse(String username, UUID orderId) {
+        //유저 유효성
+        User user = userCache.findByUsername(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //캐시에서 응답하는 경우에도 CUSTOMER는 자신의 주문인지 체크
+        Optional<DetailResponseCache.Entry> cached = detailResponseCache.getOrder(orderId);
+        if (cached.isPresent()) {
+            if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+                checkOrderUser(cached.get().username(), user);
+            }
+            return cached.get();
+        }
+
+        OrderGetDetailResponseDto response = loadOrderDetail(user, orderId);
+        if (response.getStatus().isFinal()) {
+            return detailResponseCache.putOrder(orderId, response.getUsername(), response);
+        }
+        return detailResponseCache.serialize(response.getUsername(), response);
+    }
+
+    private OrderGetDetailResponseDto loadOrderDetail(User user, UUID orderId) {
+        //주문과 주문 상품을 한 번에 조회한 뒤 조회된 주문으로 유효성 체크
+        List<OrderDetailRowDto> rows = orderRepository.findDetailRowsById(orderId);
+        if (rows.isEmpty()) {
+            throw new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage());
+        }
+        Order order = rows.get(0).getOrder();
         checkDeletedOrder(order);
 
         // CUSTOMER인 경우 Order의 user인지 체크
@@ -108,42 +149,48 @@ public class OrderService {
             checkOrderUser(order, user);
         }
 
-        // Product Entity 구현되면 음식 목록도 포함하여 리턴
-        List<OrderProduct> orderProducts = orderProductRepository.findAllByOrderAndNotDeleted(order);
-
-        return OrderGetDetailResponseDto.of(order, orderProducts);
+        return OrderGetDetailResponseDto.of(order, OrderDetailRowDto.products(rows));
     }
 
     public Page<OrderGetResponseDto> getOrders(String username, int page, int size, String sortBy, boolean isAsc) {
         //유저 유효성
-        User user = userRepository.findById(username)
+        User user = userCache.findByUsername(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
         //페이징
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.ORDER.pageable(page, size, sortBy, isAsc);
 
         //주문 조회
         UserRoleEnum role = user.getRole();
-        Page<Order> orders;
         if (role.equals(UserRoleEnum.CUSTOMER)) {
-            orders = orderRepository.findAllByUserAndNotDeleted(user, pageable);
-        } else {
-            orders = orderRepository.findAll(pageable);
+            return orderRepository.findAllByUserAndNotDeleted(user, pageable);
         }
+        return orderRepository.findAllResponses(pageable);
+    }
 
-        return orders.map(OrderGetResponseDto::fromOrder);
+    public CursorPageResponseDto<OrderGetResponseDto> getOrdersByCursor(String username, String cursor, int size,
+                                                                        boolean isAsc) {
+        //유저 유효성
+        User user = userCache.findByUsername(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //커서 페이징
+        size = PagingPolicy.ORDER.size(size);
+        Specification<Order> specification = user.getRole().equals(UserRoleEnum.CUSTOMER)
+                ? CursorSpecifications.ordersOfUser(user)
+                : Specification.where(null);
+        Window<Order> orders = CursorUtil.scroll(orderRepository, specification, cursor, size, isAsc, "id");
+
+        return CursorPageResponseDto.of(orders, OrderGetResponseDto::fromOrder,
+                order -> CursorUtil.encode(order.getCreatedDate(), order.getId()));
     }
 
     public Page<OrderGetResponseDto> getOrdersByStore(String username, int page, int size, String sortBy, boolean isAsc,
                                                       UUID storeId) {
         //유저 유효성
-        User user = userRepository.findById(username)
+        User user = userCache.findByUsername(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
@@ -159,34 +206,70 @@ public class OrderService {
         }
 
         //페이징
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.ORDER.pageable(page, size, sortBy, isAsc);
 
         //주문 조회
-        Page<Order> orders = orderRepository.findAllByStoreAndNotDeleted(store, pageable);
+        return orderRepository.findAllByStoreAndNotDeleted(store, pageable);
+    }
+
+    // 점포 주문 변경을 SSE 로 구독 (목록 API 를 주기적으로 조회하지 않도록)
+    public SseEmitter subscribeOrderFeed(String username, UUID storeId, Long lastEventId) {
+        //유저 유효성
+        User user = userCache.findByUsername(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
 
-        return orders.map(OrderGetResponseDto::fromOrder);
+        //점포 유효성
+        Store store = storeRepository.findById(storeId).orElseThrow(() -> new NullPointerException(
+                StoreExceptionMessage.STORE_NOT_FOUND.getMessage()));
+        checkDeletedStore(store);
+
+        //유저 점포 유효성
+        if (user.getRole().equals(UserRoleEnum.OWNER)) {
+            checkStoreOwnerEquals(store, user);
+        }
+
+        return orderFeedHub.subscribe(storeId, lastEventId);
+    }
+
+    public CursorPageResponseDto<OrderGetResponseDto> getOrdersByStoreByCursor(String username, String cursor,
+                                                                               int size, boolean isAsc,
+                                                                               UUID storeId) {
+        //유저 유효성
+        User user = userCache.findByUsername(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //점포 유효성
+        Store store = storeRepository.findById(storeId).orElseThrow(() -> new NullPointerException(
+                StoreExceptionMessage.STORE_NOT_FOUND.getMessage()));
+        checkDeletedStore(store);
+
+        //유저 점포 유효성
+        if (user.getRole().equals(UserRoleEnum.OWNER)) {
+            checkStoreOwnerEquals(store, user);
+        }
+
+        //커서 페이징
+        size = PagingPolicy.ORDER.size(size);
+        Window<Order> orders = CursorUtil.scroll(orderRepository, CursorSpecifications.ordersOfStore(store), cursor,
+                size, isAsc, "id");
+
+        return CursorPageResponseDto.of(orders, OrderGetResponseDto::fromOrder,
+                order -> CursorUtil.encode(order.getCreatedDate(), order.getId()));
     }
 
     public Page<OrderGetResponseDto> searchOrdersByStoreName(String storeName, int page, int size, String sortBy,
                                                              boolean isAsc) {
         // 페이징 및 정렬 정보 생성
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-
-        // 점포 이름으로 주문 검색
-        Page<Order> orders = orderRepository.findByStoreNameContaining(storeName, pageable);
+        Pageable pageable = PagingPolicy.ORDER.pageable(page, size, sortBy, isAsc);
 
-        // DTO로 변환하여 반환
-        return orders.map(OrderGetResponseDto::fromOrder);
+        // 점포 이름으로 주문 검색 (색인에서 찾은 점포 id 로 조회, 색인으로 좁히지 못하면 LIKE 조회)
+        Optional<Set<UUID>> storeIds = storeNameIndex.findStoreIds(storeName);
+        if (storeIds.isEmpty()) {
+            return orderRepository.findByStoreNameContaining(storeName, pageable);
+        }
+        return orderRepository.findAllByStoreStoreIdIn(storeIds.get(), pageable);
     }
 
     @Transactional
@@ -204,21 +287,17 @@ public class OrderService {
         //주문의 점포 주인과 유저 체크
         checkStoreOwnerEquals(order.getStore(), user);
 
-        //점포 주인이 거절하면 환불
-        if (request.getStatus().equals(OrderStatusEnum.REJECTED)) {
-            checkOrderStatus(order, OrderStatusEnum.PENDING);
+        //상태 변경 (조건부 UPDATE 로 반영, 점포 주인이 거절하면 환불 작업 등록)
+        OrderStatusEnum status = request.getStatus();
+        if (status.equals(OrderStatusEnum.REJECTED)) {
+            orderStateMachine.transition(order, status);
             payService.refundPaymentByReject(order);
-        } else if (request.getStatus().equals(OrderStatusEnum.ACCEPTED)) {
-            checkOrderStatus(order, OrderStatusEnum.PENDING);
-        } else if (request.getStatus().equals(OrderStatusEnum.COMPLETED)) {
-            if (order.getType().equals(OrderTypeEnum.ONLINE)) {
-                checkOrderStatus(order, OrderStatusEnum.ACCEPTED);
-            }
+        } else if (status.equals(OrderStatusEnum.ACCEPTED) || status.equals(OrderStatusEnum.COMPLETED)) {
+            orderStateMachine.transition(order, status);
         } else {
             throw new IllegalArgumentException(OrderExceptionMessage.ORDER_UNABLE_UPDATE.getMessage());
         }
 
-        order.updateStatus(request.getStatus());
         return new OrderResponseDto(order.getId());
     }
 
@@ -237,11 +316,11 @@ public class OrderService {
         //주문 유저 와 API 호출한 유저 체크
         checkOrderUser(order, user);
 
-        //주문 상태 확인
-        checkEnableDeleteOrderStatus(order);
+        //주문 상태 확인 후 삭제 (CREATE, PENDING 인 경우만 조건부 UPDATE 로 삭제)
+        orderStateMachine.softDelete(order, username);
 
         //orderProduct 조회 후 basket 저장
-        List<OrderProduct> orderProducts = orderProductRepository.findAllByOrderAndNotDeleted(order);
+        List<OrderProduct> orderProducts = orderProductRepository.findAllWithProductByOrderAndNotDeleted(order);
         for (OrderProduct orderProduct : orderProducts) {
             Basket basket = Basket.ofUserAndOrderProduct(user, orderProduct.getProduct(), orderProduct);
             basketRepository.save(basket);
@@ -253,10 +332,6 @@ public class OrderService {
             orderProductRepository.save(orderProduct);
         }
 
-        //order 삭제
-        order.softDelete(username, LocalDateTime.now());
-        orderRepository.save(order);
-
         return new OrderResponseDto(order.getId());
     }
 
@@ -266,26 +341,23 @@ public class OrderService {
         }
     }
 
-    private int calculateFinalPay(List<OrderProduct> orderProducts) {
-        return orderProducts.stream()
-                .mapToInt(orderProduct -> orderProduct.getPrice() * orderProduct.getQuantity())
+    private int calculateFinalPay(List<Basket> baskets) {
+        return baskets.stream()
+                .mapToInt(basket -> basket.getProduct().getPrice() * basket.getQuantity())
                 .sum();
     }
 
     private void checkOrderUser(Order order, User user) {
-        String orderUsername = order.getUser().getUsername();
+        checkOrderUser(order.getUser().getUsername(), user);
+    }
+
+    private void checkOrderUser(String orderUsername, User user) {
         String username = user.getUsername();
         if (!orderUsername.equals(username)) {
             throw new IllegalArgumentException(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage());
         }
     }
 
-    private void checkEnableDeleteOrderStatus(Order order) {
-        if (!order.getStatus().equals(OrderStatusEnum.CREATE) && !order.getStatus().equals(OrderStatusEnum.PENDING)) {
-            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_UNABLE_DELETE_STATUS.getMessage());
-        }
-    }
-
     private void checkStoreOwnerEquals(Store store, User user) {
         User owner = store.getUser();
         if (!owner.getUsername().equals(user.getUsername())) {
@@ -311,12 +383,6 @@ public class OrderService {
         }
     }
 
-    private void checkOrderStatus(Order order, OrderStatusEnum status) {
-        if (!order.getStatus().equals(status)) {
-            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_UNABLE_UPDATE.getMessage());
-        }
-    }
-
     private void checkCreatedOrderByUser(User user) {
         orderRepository.findActiveOrderByUser(user)
                 .ifPresent(order -> {
@@ -0,0 +1,97 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.OrderStatusConflictException;
+import com.sparta.blackwhitedeliverydriver.feed.OrderFeedHub;
+import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 주문 상태 전이 규칙과 반영을 한 곳에서 처리
+// 상태는 읽어서 비교한 뒤 바꾸지 않고 "WHERE id = ? AND status IN (허용된 이전 상태)" 조건부 UPDATE 한 번으로 바꾼다.
+// 점포 주인의 수락과 고객의 취소가 동시에 들어와도 먼저 반영된 요청만 성공하고 나머지는 409 로 실패한다.
+// 반영된 변경은 커밋 후 점포 주문 피드(SSE)로 발행한다.
+@Component
+@RequiredArgsConstructor
+public class OrderStateMachine {
+
+    // 목표 상태별로 허용되는 이전 상태
+    private static final Map<OrderStatusEnum, Set<OrderStatusEnum>> SOURCES = Map.of(
+            OrderStatusEnum.PENDING, EnumSet.of(OrderStatusEnum.CREATE),     // 결제 승인
+            OrderStatusEnum.ACCEPTED, EnumSet.of(OrderStatusEnum.PENDING),   // 점포 주인 수락
+            OrderStatusEnum.REJECTED, EnumSet.of(OrderStatusEnum.PENDING),   // 점포 주인 거절 (환불 작업 등록)
+            OrderStatusEnum.COMPLETED, EnumSet.of(OrderStatusEnum.ACCEPTED),
+            // 환불 완료. 환불 요청 후 응답을 기다리는 사이 수락된 주문도 돈은 이미 돌려줬으므로 취소로 확정
+            OrderStatusEnum.CANCEL, EnumSet.of(OrderStatusEnum.PENDING, OrderStatusEnum.ACCEPTED,
+                    OrderStatusEnum.REJECTED)
+    );
+    // 대면 주문은 결제 없이 바로 완료 가능
+    private static final Set<OrderStatusEnum> OFFLINE_COMPLETE_SOURCES =
+            EnumSet.of(OrderStatusEnum.CREATE, OrderStatusEnum.ACCEPTED);
+    // 주문 취소(삭제)는 점포 주인이 수락하기 전까지만 가능
+    private static final Set<OrderStatusEnum> DELETE_SOURCES =
+            EnumSet.of(OrderStatusEnum.CREATE, OrderStatusEnum.PENDING);
+
+    private final OrderRepository orderRepository;
+    private final OrderFeedHub orderFeedHub;
+
+    // 현재 상태에서 to 로 바꿀 수 있는지만 확인 (결제 요청 전 검증 등 아직 상태를 바꾸지 않는 경우)
+    public void checkTransition(Order order, OrderStatusEnum to) {
+        if (!sourcesOf(order, to).contains(order.getStatus())) {
+            throw new OrderStatusConflictException(unableMessage(to));
+        }
+    }
+
+    // 요청 처리 전 주문이 특정 상태여야 하는 경우 (고객 환불 요청은 PENDING 에서만 등)
+    public void checkStatus(Order order, OrderStatusEnum expected, String message) {
+        if (order.getStatus() != expected) {
+            throw new OrderStatusConflictException(message);
+        }
+    }
+
+    public void transition(Order order, OrderStatusEnum to) {
+        checkTransition(order, to);
+
+        int updated = orderRepository.updateStatusIfIn(order.getId(), sourcesOf(order, to), to, LocalDateTime.now());
+        if (updated == 0) {
+            throw new OrderStatusConflictException(OrderExceptionMessage.ORDER_STATUS_CONFLICT.getMessage());
+        }
+        // 같은 트랜잭션에서 엔티티를 계속 쓰는 경우를 위해 메모리 상태도 맞춰 둠 (status 는 updatable = false 라 추가 UPDATE 없음)
+        order.updateStatus(to);
+        orderFeedHub.publishAfterCommit(order);
+    }
+
+    public void softDelete(Order order, String username) {
+        if (!DELETE_SOURCES.contains(order.getStatus())) {
+            throw new OrderStatusConflictException(OrderExceptionMessage.ORDER_UNABLE_DELETE_STATUS.getMessage());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = orderRepository.softDeleteIfStatusIn(order.getId(), DELETE_SOURCES, username, now);
+        if (updated == 0) {
+            throw new OrderStatusConflictException(OrderExceptionMessage.ORDER_STATUS_CONFLICT.getMessage());
+        }
+        orderFeedHub.publishDeletedAfterCommit(order);
+    }
+
+    private Set<OrderStatusEnum> sourcesOf(Order order, OrderStatusEnum to) {
+        if (to == OrderStatusEnum.COMPLETED && order.getType() == OrderTypeEnum.OFFLINE) {
+            return OFFLINE_COMPLETE_SOURCES;
+        }
+        return SOURCES.getOrDefault(to, Set.of());
+    }
+
+    private static String unableMessage(OrderStatusEnum to) {
+        if (to == OrderStatusEnum.PENDING) {
+            return OrderExceptionMessage.ORDER_UNABLE_PAY_STATUS.getMessage();
+        }
+        return OrderExceptionMessage.ORDER_UNABLE_UPDATE.getMessage();
+    }
+}
@@ -0,0 +1,115 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.RefundJobStatusEnum;
+import com.sparta.blackwhitedeliverydriver.repository.PayRepository;
+import com.sparta.blackwhitedeliverydriver.repository.RefundJobRepository;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 카카오페이 응답을 받지 못해 APPROVING/REFUNDING 상태로 남은 결제를 카카오페이 주문 조회 결과로 확정
+// (승인/환불 요청 중 타임아웃, 서버 재시작 등)
+@Slf4j(topic = "PayRecoveryService")
+@Service
+public class PayRecoveryService {
+    private static final List<PayStatusEnum> IN_PROGRESS = List.of(PayStatusEnum.APPROVING, PayStatusEnum.REFUNDING);
+    private static final List<RefundJobStatusEnum> OPEN_REFUND_JOBS =
+            List.of(RefundJobStatusEnum.PENDING, RefundJobStatusEnum.PROCESSING);
+
+    private final PayRepository payRepository;
+    private final RefundJobRepository refundJobRepository;
+    private final KakaoPayClient kakaoPayClient;
+    private final PayUtil payUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderStateMachine orderStateMachine;
+    // 요청 중인 결제를 건드리지 않도록 카카오페이 응답 대기 시간보다 충분히 길게 설정
+    private final long staleAfterSeconds;
+
+    public PayRecoveryService(PayRepository payRepository, RefundJobRepository refundJobRepository,
+                              KakaoPayClient kakaoPayClient, PayUtil payUtil, TransactionTemplate transactionTemplate,
+                              OrderStateMachine orderStateMachine,
+                              @Value("${pay.recovery.stale-after-seconds:60}") long staleAfterSeconds) {
+        this.payRepository = payRepository;
+        this.refundJobRepository = refundJobRepository;
+        this.kakaoPayClient = kakaoPayClient;
+        this.payUtil = payUtil;
+        this.transactionTemplate = transactionTemplate;
+        this.orderStateMachine = orderStateMachine;
+        this.staleAfterSeconds = staleAfterSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${pay.recovery.interval-ms:60000}",
+            initialDelayString = "${pay.recovery.interval-ms:60000}")
+    public void recoverInProgressPays() {
+        List<Pay> pays = payRepository.findAllByPayStatusInAndLastModifiedDateBefore(IN_PROGRESS,
+                LocalDateTime.now().minusSeconds(staleAfterSeconds));
+        for (Pay pay : pays) {
+            // 거절 주문 환불은 RefundJobService 가 처리 중
+            if (refundJobRepository.existsByPayIdAndStatusIn(pay.getId(), OPEN_REFUND_JOBS)) {
+                continue;
+            }
+            try {
+                recover(pay);
+            } catch (RuntimeException e) {
+                // 조회 실패 시 상태를 바꾸지 않고 다음 주기에 다시 확인
+                log.warn("결제 {} 상태 확인 실패: {}", pay.getId(), e.getMessage());
+            }
+        }
+    }
+
+    public void recover(Pay pay) {
+        Map<String, String> parameters = payUtil.getOrderLookupParameters(pay);
+        PayOrderResponseDto orderResponse = kakaoPayClient.order(new HttpEntity<>(parameters, payUtil.getHeaders()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Pay current = payRepository.findById(pay.getId()).orElse(null);
+            // 조회하는 동안 요청 스레드가 먼저 결과를 반영했거나 다른 결제로 다시 요청한 경우
+            if (current == null || current.getPayStatus() != pay.getPayStatus()
+                    || !current.getTid().equals(orderResponse.getTid())) {
+                return;
+            }
+
+            if (current.getPayStatus() == PayStatusEnum.APPROVING) {
+                resolveApproval(current, orderResponse);
+            } else {
+                resolveRefund(current, orderResponse);
+            }
+        });
+    }
+
+    private void resolveApproval(Pay pay, PayOrderResponseDto orderResponse) {
+        if (PayOrderResponseDto.SUCCESS_PAYMENT.equals(orderResponse.getStatus())) {
+            pay.approve(orderResponse.getItem_name(), orderResponse.getAmount().getTotal(),
+                    orderResponse.getApproved_at());
+            orderStateMachine.transition(pay.getOrder(), OrderStatusEnum.PENDING);
+            log.info("결제 {} 승인 완료로 복구", pay.getId());
+            return;
+        }
+        pay.fail();
+        log.info("결제 {} 승인 실패로 복구 (카카오페이 상태: {})", pay.getId(), orderResponse.getStatus());
+    }
+
+    private void resolveRefund(Pay pay, PayOrderResponseDto orderResponse) {
+        if (PayOrderResponseDto.CANCEL_PAYMENT.equals(orderResponse.getStatus())) {
+            orderStateMachine.transition(pay.getOrder(), OrderStatusEnum.CANCEL);
+            pay.updateByRefund(PayStatusEnum.REFUND, orderResponse.getCanceled_amount().getTotal(),
+                    orderResponse.getCanceled_at());
+            log.info("결제 {} 환불 완료로 복구", pay.getId());
+            return;
+        }
+        pay.cancelRefund();
+        log.info("결제 {} 환불 실패로 복구 (카카오페이 상태: {})", pay.getId(), orderResponse.getStatus());
+    }
+}
@@ -1,5 +1,11 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
+import com.sparta.blackwhitedeliverydriver.cache.UserCache;
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayGetDetailResponseDto;
@@ -9,202 +15,276 @@ import com.sparta.blackwhitedeliverydriver.dto.PayRefundRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRefundResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRequestDto;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
-import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
 import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
 import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
 import com.sparta.blackwhitedeliverydriver.entity.Pay;
 import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.RefundJob;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.PayExceptionMessage;
-import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
+import com.sparta.blackwhitedeliverydriver.repository.CursorSpecifications;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.PayRepository;
+import com.sparta.blackwhitedeliverydriver.repository.RefundJobRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
 import com.sparta.blackwhitedeliverydriver.util.HttpUtil;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import com.sparta.blackwhitedeliverydriver.util.PayUtil;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PayService {
-    private final String PAY_URI = "https://open-api.kakaopay.com/online/v1";
-
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final PayRepository payRepository;
-    private final OrderProductRepository orderProductRepository;
+    private final RefundJobRepository refundJobRepository;
+    private final StoreNameIndex storeNameIndex;
+    private final UserCache userCache;
+    private final OrderStateMachine orderStateMachine;
+    private final DetailResponseCache detailResponseCache;
 
     private final PayUtil payUtil;
     private final HttpUtil httpUtil;
+    private final KakaoPayClient kakaoPayClient;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 카카오페이 호출은 트랜잭션 밖에서 하고, 전후의 검증/반영만 짧은 트랜잭션으로 처리 (응답을 기다리는 동안 DB 커넥션을 잡지 않도록)
     public PayReadyResponseDto readyToPay(String username, PayRequestDto request) {
-        //유저 유효성
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
-        checkDeletedUser(user);
+        HttpEntity<Map<String, String>> restRequest = transactionTemplate.execute(status -> {
+            //유저 유효성
+            User user = userRepository.findById(username)
+                    .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+            checkDeletedUser(user);
 
-        //주문 유효성
-        Order order = orderRepository.findById(request.getOrderId())
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
-        checkDeletedOrder(order);
+            //주문 유효성
+            Order order = orderRepository.findById(request.getOrderId())
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            checkDeletedOrder(order);
 
-        //유저와 주문 유저 비교
-        checkOrderUser(order, user);
+            //유저와 주문 유저 비교
+            checkOrderUser(order, user);
 
-        //주문 상태 체크
-        checkOrderStatus(order);
+            //주문 상태 체크 (결제 완료 시 PENDING 으로 바꿀 수 있는 상태인지)
+            orderStateMachine.checkTransition(order, OrderStatusEnum.PENDING);
 
-        //주문 타입 체크 - 대면인 경우에는 오프라인 계산
-        checkOrderType(order);
+            //주문 타입 체크 - 대면인 경우에는 오프라인 계산
+            checkOrderType(order);
 
-        //파라미터와 헤더 설정
-        Map<String, String> parameters = payUtil.getReadyPayParameters(user, order);
-        HttpEntity<Map<String, String>> restRequest = httpUtil.getHttpEntity(payUtil.getHeaders(), parameters);
+            //파라미터와 헤더 설정
+            Map<String, String> parameters = payUtil.getReadyPayParameters(user, order);
+            return httpUtil.getHttpEntity(payUtil.getHeaders(), parameters);
+        });
 
         //카카오페이에 요청
-        RestTemplate restTemplate = new RestTemplate();
-        PayReadyResponseDto response = restTemplate.postForObject(PAY_URI + "/payment/ready", restRequest,
-                PayReadyResponseDto.class);
+        PayReadyResponseDto response = kakaoPayClient.ready(restRequest);
 
         assert response != null;
-        order.updateTid(response.getTid());
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.findById(request.getOrderId())
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            order.updateTid(response.getTid());
+        });
 
         return response;
     }
 
-    @Transactional
     public PayApproveResponseDto approvePay(String username, String pgToken, String tid) {
-
-        //유저 유효성
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
-        checkDeletedUser(user);
-
-        //주문 유효성
-        Order order = orderRepository.findByTid(tid)
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
-        checkDeletedOrder(order);
-
-        Map<String, String> parameters = payUtil.getApprovePayParameters(tid, pgToken, order);
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(parameters, payUtil.getHeaders());
-
-        RestTemplate restTemplate = new RestTemplate();
-        PayApproveResponseDto approveResponse = restTemplate.postForObject(
-                PAY_URI + "/payment/approve", requestEntity, PayApproveResponseDto.class);
+        // 승인 요청 전에 결제를 APPROVING 상태로 먼저 커밋 (응답을 받지 못해도 복구 작업이 tid 로 결과를 확인할 수 있도록)
+        GatewayRequest approveRequest = transactionTemplate.execute(status -> {
+            //유저 유효성
+            User user = userRepository.findById(username)
+                    .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+            checkDeletedUser(user);
+
+            //주문 유효성
+            Order order = orderRepository.findByTid(tid)
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            checkDeletedOrder(order);
+            orderStateMachine.checkTransition(order, OrderStatusEnum.PENDING);
+
+            //승인 실패했던 결제가 있으면 같은 결제로 다시 승인 요청
+            Pay pay = payRepository.findByOrder(order)
+                    .map(existingPay -> {
+                        checkRetryablePay(existingPay);
+                        existingPay.retryApproval(tid, order.getFinalPay());
+                        return existingPay;
+                    })
+                    .orElseGet(() -> payRepository.save(Pay.approving(order, tid)));
+
+            Map<String, String> parameters = payUtil.getApprovePayParameters(tid, pgToken, order);
+            return new GatewayRequest(pay.getId(), new HttpEntity<>(parameters, payUtil.getHeaders()));
+        });
+
+        PayApproveResponseDto approveResponse;
+        try {
+            approveResponse = kakaoPayClient.approve(approveRequest.entity());
+        } catch (HttpClientErrorException | UpstreamUnavailableException e) {
+            // 카카오페이가 승인을 거절(4xx)했거나 요청을 보내지 않은 경우에만 실패로 확정
+            // 5xx 나 타임아웃은 카카오페이에서 승인됐을 수도 있으므로 APPROVING 으로 두고 복구 작업에 맡김
+            transactionTemplate.executeWithoutResult(status ->
+                    payRepository.findById(approveRequest.payId()).ifPresent(Pay::fail));
+            throw e;
+        }
 
         assert approveResponse != null;
-        Pay pay = Pay.of(order, approveResponse);
-        payRepository.save(pay);
-        order.updateStatus(OrderStatusEnum.PENDING);
+        transactionTemplate.executeWithoutResult(status -> {
+            Pay pay = payRepository.findById(approveRequest.payId())
+                    .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+            pay.approve(approveResponse.getItem_name(), approveResponse.getAmount().getTotal(),
+                    approveResponse.getApproved_at());
+            orderStateMachine.transition(pay.getOrder(), OrderStatusEnum.PENDING);
+        });
 
         return approveResponse;
     }
 
-    @Transactional
     public PayRefundResponseDto refundPayment(String username, PayRefundRequestDto request) {
-        //유저 유효성
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_PUBLIC.getMessage()));
-        checkDeletedUser(user);
-
-        //주문 유효성
-        Order order = orderRepository.findById(request.getOrderId())
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
-        checkDeletedOrder(order);
-
-        //주문 상태 체크
-        checkOrderPendingStatus(order);
-
-        //유저와 주문 유저의 유효성
-        checkOrderUser(order, user);
-
-        //pay 유효성
-        Pay pay = payRepository.findByOrder(order)
-                .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
-        checkDeletedPay(pay);
-
-        //Pay 생성 시간이 5분 이내인지 확인
-        checkPayWithinFiveMinutes(pay);
+        // 환불 요청 전에 결제를 REFUNDING 상태로 먼저 커밋 (중복 환불 요청 방지 및 복구용)
+        GatewayRequest cancelRequest = transactionTemplate.execute(status -> {
+            //유저 유효성
+            User user = userRepository.findById(username)
+                    .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_PUBLIC.getMessage()));
+            checkDeletedUser(user);
+
+            //주문 유효성
+            Order order = orderRepository.findById(request.getOrderId())
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            checkDeletedOrder(order);
+
+            //주문 상태 체크
+            orderStateMachine.checkStatus(order, OrderStatusEnum.PENDING, PayExceptionMessage.PAY_UNABLE.getMessage());
+
+            //유저와 주문 유저의 유효성
+            checkOrderUser(order, user);
+
+            //pay 유효성
+            Pay pay = payRepository.findByOrder(order)
+                    .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+            checkDeletedPay(pay);
+            checkRefundablePay(pay);
+
+            //Pay 생성 시간이 5분 이내인지 확인
+            checkPayWithinFiveMinutes(pay);
+
+            //100% 환불로 일단 구현
+            int cancelAmount = pay.getPayAmount();
+            pay.startRefund();
+
+            //카카오 페이 서버로 보낼 요청 생성
+            Map<String, String> parameters = payUtil.getRefundParameters(pay, cancelAmount);
+            return new GatewayRequest(pay.getId(), new HttpEntity<>(parameters, payUtil.getHeaders()));
+        });
+
+        PayCancelResponseDto cancelResponse;
+        try {
+            cancelResponse = kakaoPayClient.cancel(cancelRequest.entity());
+        } catch (HttpClientErrorException | UpstreamUnavailableException e) {
+            // 카카오페이가 환불을 거절(4xx)했거나 요청을 보내지 않은 경우 결제 완료 상태로 되돌림
+            // 5xx 나 타임아웃은 카카오페이에서 취소됐을 수도 있으므로 REFUNDING 으로 두고 복구 작업에 맡김
+            transactionTemplate.executeWithoutResult(status ->
+                    payRepository.findById(cancelRequest.payId()).ifPresent(Pay::cancelRefund));
+            throw e;
+        }
 
-        //100% 환불로 일단 구현
-        int cancelAmount = pay.getPayAmount();
+        assert cancelResponse != null;
+        transactionTemplate.executeWithoutResult(status -> {
+            Pay pay = payRepository.findById(cancelRequest.payId())
+                    .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
 
-        //카카오 페이 서버로 보낼 요청 생성 및 api 호출
-        Map<String, String> parameters = payUtil.getRefundParameters(pay, cancelAmount);
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(parameters, payUtil.getHeaders());
-        RestTemplate restTemplate = new RestTemplate();
-        PayCancelResponseDto cancelResponse = restTemplate.postForObject(PAY_URI + "/payment/cancel", requestEntity,
-                PayCancelResponseDto.class);
+            //주문 상태 업데이트
+            orderStateMachine.transition(pay.getOrder(), OrderStatusEnum.CANCEL);
 
-        //주문 상태 업데이트
-        order.updateStatus(OrderStatusEnum.CANCEL);
-
-        //pay 업데이트
-        assert cancelResponse != null;
-        pay.updateByRefund(PayStatusEnum.REFUND, cancelResponse.getCanceled_amount().getTotal(),
-                cancelResponse.getCanceled_at());
+            //pay 업데이트
+            pay.updateByRefund(PayStatusEnum.REFUND, cancelResponse.getCanceled_amount().getTotal(),
+                    cancelResponse.getCanceled_at());
+        });
 
         return new PayRefundResponseDto("주문을 취소했습니다.");
     }
 
+    // 거절 요청에서는 환불 작업만 저장하고 카카오페이 취소는 RefundJobService 에서 비동기로 처리
     @Transactional
     public void refundPaymentByReject(Order order) {
-        //주문 상태 체크
-        checkOrderPendingStatus(order);
+        //주문 상태 체크 (OrderStateMachine 으로 REJECTED 로 바꾼 주문만)
+        orderStateMachine.checkStatus(order, OrderStatusEnum.REJECTED, PayExceptionMessage.PAY_UNABLE.getMessage());
 
         //pay 유효성
         Pay pay = payRepository.findByOrder(order)
                 .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
         checkDeletedPay(pay);
+        checkRefundablePay(pay);
 
-        //100% 환불로 일단 구현
-        int cancelAmount = pay.getPayAmount();
-
-        //카카오 페이 서버로 보낼 요청 생성 및 api 호출
-        Map<String, String> parameters = payUtil.getRefundParameters(pay, cancelAmount);
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(parameters, payUtil.getHeaders());
-        RestTemplate restTemplate = new RestTemplate();
-        PayCancelResponseDto cancelResponse = restTemplate.postForObject(PAY_URI + "/payment/cancel", requestEntity,
-                PayCancelResponseDto.class);
+        //환불 중 상태로 바꿔 고객의 환불 요청과 겹치지 않도록 함
+        pay.startRefund();
+        refundJobRepository.save(RefundJob.from(pay));
+    }
 
-        //주문 상태 업데이트
-        order.updateStatus(OrderStatusEnum.CANCEL);
+    public PayGetDetailResponseDto getPayDetail(String username, UUID payId) {
+        //유저 유효성
+        User user = userCache.findByUsername(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
 
-        //pay 업데이트
-        assert cancelResponse != null;
-        pay.updateByRefund(PayStatusEnum.REFUND, cancelResponse.getCanceled_amount().getTotal(),
-                cancelResponse.getCanceled_at());
+        return loadPayDetail(user, payId);
     }
 
-    public PayGetDetailResponseDto getPayDetail(String username, UUID payId) {
+    // 결제 상세 응답을 직렬화된 본문과 ETag 로 반환. 환불/정산이 끝난 결제는 처음 조회할 때 캐시에 넣고 이후에는 캐시에서 응답
+    public DetailResponseCache.Entry getPayDetailResponse(String username, UUID payId) {
         //유저 유효성
-        User user = userRepository.findById(username)
+        User user = userCache.findByUsername(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
-        //PAY 유효성
-        Pay pay = payRepository.findById(payId)
-                .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+        //캐시에서 응답하는 경우에도 CUSTOMER는 자신의 주문인지 체크
+        Optional<DetailResponseCache.Entry> cached = detailResponseCache.getPay(payId);
+        if (cached.isPresent()) {
+            if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+                checkOrderUser(cached.get().username(), user);
+            }
+            return cached.get();
+        }
+
+        PayGetDetailResponseDto response = loadPayDetail(user, payId);
+        OrderGetDetailResponseDto order = response.getOrder();
+        if (isSettled(response)) {
+            return detailResponseCache.putPay(payId, order.getUsername(), response);
+        }
+        return detailResponseCache.serialize(order.getUsername(), response);
+    }
+
+    private PayGetDetailResponseDto loadPayDetail(User user, UUID payId) {
+        //PAY 유효성 (결제, 주문, 주문 상품을 한 번에 조회한 뒤 조회된 결제/주문으로 체크)
+        List<OrderDetailRowDto> rows = payRepository.findDetailRowsById(payId);
+        if (rows.isEmpty()) {
+            throw new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage());
+        }
+        Pay pay = rows.get(0).getPay();
         checkDeletedPay(pay);
 
         //Order와 유저 유효성
@@ -213,68 +293,74 @@ public class PayService {
             checkOrderUser(pay.getOrder(), user);
         }
 
-        //Order에 관한 OrderProduct 조회
-        List<OrderProduct> orderProducts = orderProductRepository.findAllByOrderAndNotDeleted(pay.getOrder());
-
-        return PayGetDetailResponseDto.ofPayAndOrderProducts(pay, orderProducts);
+        return PayGetDetailResponseDto.ofPayAndProducts(pay, OrderDetailRowDto.products(rows));
     }
 
     public Page<PayGetResponseDto> getPays(String username, int page, int size, String sortBy, boolean isAsc) {
         //유저 유효성
-        User user = userRepository.findById(username)
+        User user = userCache.findByUsername(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
         //페이징
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.PAY.pageable(page, size, sortBy, isAsc);
 
         //유저 권한별 반환
-        Page<Pay> pays;
         UserRoleEnum role = user.getRole();
         if (role.equals(UserRoleEnum.CUSTOMER)) {
-            pays = payRepository.findAllByUser(user, pageable);
-        } else {
-            pays = payRepository.findAll(pageable);
+            return payRepository.findAllByUser(user, pageable);
         }
+        return payRepository.findAllResponses(pageable);
+    }
 
-        return pays.map(PayGetResponseDto::fromPay);
+    public CursorPageResponseDto<PayGetResponseDto> getPaysByCursor(String username, String cursor, int size,
+                                                                    boolean isAsc) {
+        //유저 유효성
+        User user = userCache.findByUsername(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //커서 페이징
+        size = PagingPolicy.PAY.size(size);
+        Specification<Pay> specification = user.getRole().equals(UserRoleEnum.CUSTOMER)
+                ? CursorSpecifications.paysOfUser(user)
+                : Specification.where(null);
+        Window<Pay> pays = CursorUtil.scroll(payRepository, specification, cursor, size, isAsc, "id");
+
+        return CursorPageResponseDto.of(pays, PayGetResponseDto::fromPay,
+                pay -> CursorUtil.encode(pay.getCreatedDate(), pay.getId()));
     }
 
     public Page<PayGetResponseDto> searchPaymentsByStoreName(String storeName, int page, int size, String sortBy, boolean isAsc) {
         // 정렬 및 페이징 정보 생성
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.PAY.pageable(page, size, sortBy, isAsc);
 
-        // storeName으로 Pay 검색
-        Page<Pay> payments = payRepository.findByStoreNameContaining(storeName, pageable);
+        // storeName으로 Pay 검색 (색인에서 찾은 점포 id 로 조회, 색인으로 좁히지 못하면 LIKE 조회)
+        Optional<Set<UUID>> storeIds = storeNameIndex.findStoreIds(storeName);
+        if (storeIds.isEmpty()) {
+            return payRepository.findByStoreNameContaining(storeName, pageable);
+        }
+        return payRepository.findAllByOrderStoreStoreIdIn(storeIds.get(), pageable);
+    }
 
-        // Pay 데이터를 DTO로 변환하여 반환
-        return payments.map(PayGetResponseDto::fromPay);
+    // 환불이 끝났거나, 결제가 승인된 채로 주문이 완료되어 더 이상 바뀌지 않는 결제
+    private static boolean isSettled(PayGetDetailResponseDto response) {
+        return response.getPayStatus() == PayStatusEnum.REFUND
+                || (response.getPayStatus() == PayStatusEnum.SUCCESS
+                && response.getOrder().getStatus() == OrderStatusEnum.COMPLETED);
     }
 
     private void checkOrderUser(Order order, User user) {
-        String orderUsername = order.getUser().getUsername();
+        checkOrderUser(order.getUser().getUsername(), user);
+    }
+
+    private void checkOrderUser(String orderUsername, User user) {
         String username = user.getUsername();
         if (!orderUsername.equals(username)) {
             throw new IllegalArgumentException(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage());
         }
     }
 
-    private void checkOrderStatus(Order order) {
-        if (!order.getStatus().equals(OrderStatusEnum.CREATE)) {
-            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_UNABLE_PAY_STATUS.getMessage());
-        }
-    }
-
     private void checkDeletedUser(User user) {
         if (user.getDeletedDate() != null || user.getDeletedBy() != null) {
             throw new IllegalArgumentException(ExceptionMessage.USER_DELETED.getMessage());
@@ -293,18 +379,30 @@ public class PayService {
         }
     }
 
-    private void checkOrderType(Order order) {
-        if (order.getType().equals(OrderTypeEnum.OFFLINE)) {
-            throw new IllegalArgumentException(PayExceptionMessage.PAY_OFFLINE_TYPE.getMessage());
+    private void checkRetryablePay(Pay pay) {
+        if (pay.getPayStatus().equals(PayStatusEnum.APPROVING)) {
+            throw new IllegalArgumentException(PayExceptionMessage.PAY_IN_PROGRESS.getMessage());
+        }
+        if (!pay.getPayStatus().equals(PayStatusEnum.FAILED)) {
+            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_UNABLE_PAY_STATUS.getMessage());
         }
     }
 
-    private void checkOrderPendingStatus(Order order) {
-        if (!order.getStatus().equals(OrderStatusEnum.PENDING)) {
+    private void checkRefundablePay(Pay pay) {
+        if (pay.getPayStatus().equals(PayStatusEnum.REFUNDING)) {
+            throw new IllegalArgumentException(PayExceptionMessage.PAY_IN_PROGRESS.getMessage());
+        }
+        if (!pay.getPayStatus().equals(PayStatusEnum.SUCCESS)) {
             throw new IllegalArgumentException(PayExceptionMessage.PAY_UNABLE.getMessage());
         }
     }
 
+    private void checkOrderType(Order order) {
+        if (order.getType().equals(OrderTypeEnum.OFFLINE)) {
+            throw new IllegalArgumentException(PayExceptionMessage.PAY_OFFLINE_TYPE.getMessage());
+        }
+    }
+
     private void checkPayWithinFiveMinutes(Pay pay) {
         if (pay.getApprovedAt() == null) {
             throw new IllegalArgumentException(PayExceptionMessage.PAY_UNABLE.getMessage());
@@ -318,4 +416,8 @@ public class PayService {
             throw new IllegalArgumentException(PayExceptionMessage.PAY_REFUND_TIME_EXCEEDED.getMessage());
         }
     }
+
+    // 카카오페이 호출에 필요한 요청과 결과를 반영할 결제 id
+    private record GatewayRequest(UUID payId, HttpEntity<Map<String, String>> entity) {
+    }
 }
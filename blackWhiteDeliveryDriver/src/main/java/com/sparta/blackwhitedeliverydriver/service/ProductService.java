@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.MenuCache;
 import com.sparta.blackwhitedeliverydriver.dto.CreateProductRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductRequestDto;
@@ -15,16 +16,14 @@ import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,20 +36,18 @@ public class ProductService {
     private final StoreRepository storeRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final MenuCache menuCache;
 
-    public Page<ProductResponseDto> getProducts(UUID storeId, int page, int size, String sortBy, boolean isAsc) {
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+    // 메뉴 조회 응답을 직렬화된 본문과 ETag 로 반환. 점포의 메뉴 버전이 그대로면 캐시된 응답을 사용
+    public MenuCache.Entry getProductsResponse(UUID storeId, int page, int size, String sortBy, boolean isAsc) {
+        Pageable pageable = PagingPolicy.PRODUCT.pageable(page, size, sortBy, isAsc);
 
-        Store store = storeRepository.findById(storeId).orElseThrow(
+        long menuVersion = storeRepository.findMenuVersionById(storeId).orElseThrow(
                 () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
         );
-        Page<Product> productList = productRepository.findAllByStoreAndDeletedDateIsNullAndDeletedByIsNull(store, pageable);
-
-        Page<ProductResponseDto> productResponseDtoPage = productList.map(ProductResponseDto::from);
-
-        return productResponseDtoPage;
+        return menuCache.get(storeId, menuVersion, pageable, () -> productRepository
+                .findAllByStoreStoreIdAndDeletedDateIsNullAndDeletedByIsNull(storeId, pageable)
+                .map(ProductResponseDto::from));
     }
 
     @Transactional
@@ -81,6 +78,7 @@ public class ProductService {
         }
         Product newProduct = Product.from(requestDto, store);
         productRepository.save(newProduct);
+        storeRepository.increaseMenuVersion(store.getStoreId());
 
         ProductIdResponseDto productIdResponseDto = new ProductIdResponseDto(newProduct.getProductId());
         return productIdResponseDto;
@@ -99,6 +97,7 @@ public class ProductService {
                 () -> new NullPointerException(ProductExceptionMessage.PRODUCT_NOT_FOUND.getMessage())
         );
         product.update(requestDto, userDetails);
+        storeRepository.increaseMenuVersion(storeId);
         ProductIdResponseDto productIdResponseDto = new ProductIdResponseDto(product.getProductId());
 
         return productIdResponseDto;
@@ -156,6 +155,7 @@ public class ProductService {
 
         product.setDeletedDate(LocalDateTime.now());
         product.setDeletedBy(userDetails.getUsername());
+        storeRepository.increaseMenuVersion(product.getStore().getStoreId());
 
         ProductIdResponseDto productIdResponseDto = new ProductIdResponseDto(productId);
 
@@ -0,0 +1,217 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.RefundJob;
+import com.sparta.blackwhitedeliverydriver.entity.RefundJobStatusEnum;
+import com.sparta.blackwhitedeliverydriver.repository.RefundJobRepository;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 점포 주인이 거절한 주문의 환불 작업 처리
+// 거절 요청은 작업만 저장하고 바로 반환하며, 여기서 작업을 묶음으로 가져와 전용 스레드 풀에서 카카오페이 취소를 호출한다.
+// 실패한 작업은 지수 백오프로 다시 시도하고, 재시도 횟수를 넘기면 FAILED 로 남긴다.
+@Slf4j(topic = "RefundJobService")
+@Service
+public class RefundJobService {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final RefundJobRepository refundJobRepository;
+    private final KakaoPayClient kakaoPayClient;
+    private final PayUtil payUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderStateMachine orderStateMachine;
+    private final ThreadPoolTaskExecutor refundJobExecutor;
+    private final Counter succeededCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    // 처리 중 상태로 이 시간 이상 남은 작업은 작업 스레드가 중단된 것으로 보고 다시 가져온다
+    private final long staleAfterSeconds;
+
+    public RefundJobService(RefundJobRepository refundJobRepository, KakaoPayClient kakaoPayClient,
+                            PayUtil payUtil, TransactionTemplate transactionTemplate,
+                            OrderStateMachine orderStateMachine,
+                            @Qualifier("refundJobExecutor") ThreadPoolTaskExecutor refundJobExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${refund.job.batch-size:50}") int batchSize,
+                            @Value("${refund.job.max-attempts:5}") int maxAttempts,
+                            @Value("${refund.job.backoff-base-ms:1000}") long backoffBaseMs,
+                            @Value("${refund.job.backoff-max-ms:300000}") long backoffMaxMs,
+                            @Value("${refund.job.stale-after-seconds:300}") long staleAfterSeconds) {
+        this.refundJobRepository = refundJobRepository;
+        this.kakaoPayClient = kakaoPayClient;
+        this.payUtil = payUtil;
+        this.transactionTemplate = transactionTemplate;
+        this.orderStateMachine = orderStateMachine;
+        this.refundJobExecutor = refundJobExecutor;
+        this.succeededCounter = counter(meterRegistry, "succeeded");
+        this.retriedCounter = counter(meterRegistry, "retried");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.staleAfterSeconds = staleAfterSeconds;
+    }
+
+    // 스레드 풀 대기열에 자리가 있는 만큼 처리할 작업을 가져와 넘긴다
+    @Scheduled(fixedDelayString = "${refund.job.poll-interval-ms:1000}")
+    public void drain() {
+        while (true) {
+            int limit = Math.min(batchSize, refundJobExecutor.getThreadPoolExecutor().getQueue().remainingCapacity());
+            if (limit == 0) {
+                return;
+            }
+
+            List<UUID> jobIds = claim(limit);
+            for (UUID jobId : jobIds) {
+                refundJobExecutor.execute(() -> process(jobId));
+            }
+            if (jobIds.size() < limit) {
+                return;
+            }
+        }
+    }
+
+    public void process(UUID jobId) {
+        RefundRequest request = transactionTemplate.execute(status -> {
+            RefundJob job = refundJobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getStatus() != RefundJobStatusEnum.PROCESSING) {
+                return null;
+            }
+
+            //100% 환불
+            Pay pay = job.getPay();
+            Map<String, String> cancelParameters = payUtil.getRefundParameters(pay, pay.getPayAmount());
+            Map<String, String> lookupParameters = payUtil.getOrderLookupParameters(pay);
+            return new RefundRequest(job.getAttempts(),
+                    new HttpEntity<>(cancelParameters, payUtil.getHeaders()),
+                    new HttpEntity<>(lookupParameters, payUtil.getHeaders()));
+        });
+        if (request == null) {
+            return;
+        }
+
+        // 카카오페이 호출은 트랜잭션 밖에서
+        RefundResult result;
+        try {
+            result = cancel(request);
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> handleFailure(jobId, e));
+            return;
+        }
+
+        // 취소는 되었지만 주문/결제 반영이 실패한 경우(주문 상태 충돌, DB 오류 등)도 재시도 횟수 제한을 적용
+        // 다음 시도는 취소 여부 확인 후 반영만 다시 하고, 횟수를 넘기면 FAILED 로 남겨 PayRecoveryService 가 정리하도록 함
+        try {
+            transactionTemplate.executeWithoutResult(status -> complete(jobId, result));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> handleFailure(jobId, e));
+            return;
+        }
+        succeededCounter.increment();
+    }
+
+    private List<UUID> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<RefundJob> jobs = refundJobRepository.findDueJobs(now, now.minusSeconds(staleAfterSeconds),
+                    PageRequest.of(0, limit));
+            jobs.forEach(RefundJob::start);
+            return jobs.stream().map(RefundJob::getId).toList();
+        });
+    }
+
+    // 이전 시도에서 응답만 받지 못하고 취소는 되었을 수 있으므로, 재시도 때는 취소 여부를 먼저 확인
+    private RefundResult cancel(RefundRequest request) {
+        if (request.attempts() > 1) {
+            PayOrderResponseDto orderResponse = kakaoPayClient.order(request.lookup());
+            if (PayOrderResponseDto.CANCEL_PAYMENT.equals(orderResponse.getStatus())) {
+                return new RefundResult(orderResponse.getCanceled_amount().getTotal(), orderResponse.getCanceled_at());
+            }
+        }
+
+        PayCancelResponseDto cancelResponse = kakaoPayClient.cancel(request.cancel());
+        return new RefundResult(cancelResponse.getCanceled_amount().getTotal(), cancelResponse.getCanceled_at());
+    }
+
+    private void complete(UUID jobId, RefundResult result) {
+        RefundJob job = refundJobRepository.findById(jobId).orElseThrow();
+        Pay pay = job.getPay();
+
+        //주문 상태 업데이트
+        orderStateMachine.transition(pay.getOrder(), OrderStatusEnum.CANCEL);
+
+        //pay 업데이트
+        pay.updateByRefund(PayStatusEnum.REFUND, result.canceledAmount(), result.canceledAt());
+        job.succeed();
+    }
+
+    private void handleFailure(UUID jobId, RuntimeException e) {
+        RefundJob job = refundJobRepository.findById(jobId).orElseThrow();
+        String error = truncate(e.getMessage());
+
+        if (job.getAttempts() >= maxAttempts) {
+            // 결제는 REFUNDING 으로 남겨 PayRecoveryService 가 카카오페이 결과로 확정하도록 함
+            job.fail(error);
+            failedCounter.increment();
+            log.error("환불 작업 {} 실패 (결제 {}, {}회 시도): {}", jobId, job.getPay().getId(), job.getAttempts(), error);
+            return;
+        }
+
+        job.retry(LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(job.getAttempts()))), error);
+        retriedCounter.increment();
+        log.warn("환불 작업 {} 재시도 예정 ({}회 시도): {}", jobId, job.getAttempts(), error);
+    }
+
+    // 1회 실패 후 base, 이후 2배씩 늘리되 max 를 넘지 않음
+    private long backoffMillis(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(backoffMaxMs, backoffBaseMs << shift);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("refund.job")
+                .tag("result", result)
+                .description("환불 작업 처리 결과")
+                .register(meterRegistry);
+    }
+
+    private record RefundRequest(int attempts, HttpEntity<Map<String, String>> cancel,
+                                 HttpEntity<Map<String, String>> lookup) {
+    }
+
+    private record RefundResult(int canceledAmount, String canceledAt) {
+    }
+}
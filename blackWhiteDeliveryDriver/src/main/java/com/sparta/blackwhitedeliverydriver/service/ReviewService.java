@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto;
@@ -12,19 +13,21 @@ import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.ReviewExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.CursorSpecifications;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.ReviewRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +42,7 @@ public class ReviewService {
     private final OrderRepository orderRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final StoreFrontService storeFrontService;
 
     @Transactional
     public ReviewIdResponseDto createReview(ReviewRequestDto requestDto, UUID orderId) {
@@ -51,6 +55,7 @@ public class ReviewService {
         // 리뷰 총점 업데이트 및 리뷰수 +1
         store.updateRating(requestDto.getRating());
         storeRepository.save(store);
+        storeFrontService.refresh(store);
 
         Review review = Review.from(requestDto, order);
         reviewRepository.save(review);
@@ -59,33 +64,29 @@ public class ReviewService {
     }
 
     public Page<ReviewResponseDto> getAllReviewsByStoreId(UUID storeId, int page, int size, String sortBy, boolean isAsc) {
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-
         // 페이징 처리
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.REVIEW.pageable(page, size, sortBy, isAsc);
+
+        return reviewRepository.findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull(storeId, pageable);
+    }
 
-        Page<Review> reviewPage = reviewRepository.findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull(storeId, pageable);
+    public CursorPageResponseDto<ReviewResponseDto> getAllReviewsByStoreIdByCursor(UUID storeId, String cursor, int size,
+                                                                                   boolean isAsc) {
+        size = PagingPolicy.REVIEW.size(size);
 
-        return reviewPage.map(ReviewResponseDto::from);
+        // 커서 페이징
+        Window<Review> reviews = CursorUtil.scroll(reviewRepository, CursorSpecifications.reviewsOfStore(storeId),
+                cursor, size, isAsc, "id");
+
+        return CursorPageResponseDto.of(reviews, ReviewResponseDto::from,
+                review -> CursorUtil.encode(review.getCreatedDate(), review.getId()));
     }
 
     public Page<ReviewResponseDto> getAllReviewsByUsername(String username, int page, int size, String sortBy, boolean isAsc) {
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-
         // 페이징 처리
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-
-        Page<Review> reviewPage = reviewRepository.findAllByOrderUserUsernameAndDeletedByIsNullAndDeletedDateIsNull(username, pageable);
+        Pageable pageable = PagingPolicy.REVIEW.pageable(page, size, sortBy, isAsc);
 
-        return reviewPage.map(ReviewResponseDto::from);
+        return reviewRepository.findAllByOrderUserUsernameAndDeletedByIsNullAndDeletedDateIsNull(username, pageable);
     }
 
 
@@ -117,6 +118,7 @@ public class ReviewService {
         //평점 업데이트, 기존 값은 빼고 업데이트 한 값을 더한다.
         store.updateRating(review.getRating(), requestDto.getRating());
         storeRepository.save(store);
+        storeFrontService.refresh(store);
 
         review.update(requestDto.getContents(), requestDto.getRating());
         reviewRepository.save(review);
@@ -0,0 +1,119 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.cache.CategoryCache;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
+import com.sparta.blackwhitedeliverydriver.entity.StoreFront;
+import com.sparta.blackwhitedeliverydriver.exception.CategoryExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreFrontRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 점포 쓰기 작업과 같은 트랜잭션 안에서 p_store_front 읽기 모델을 갱신
+@Slf4j(topic = "StoreFrontService")
+@Transactional(readOnly = true)
+@Service
+@RequiredArgsConstructor
+public class StoreFrontService {
+    private final StoreFrontRepository storeFrontRepository;
+    private final StoreRepository storeRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final CategoryCache categoryCache;
+
+    @Transactional
+    public void refresh(Store store) {
+        if (isDeleted(store)) {
+            remove(store.getStoreId());
+            return;
+        }
+
+        List<String> categoryNameList = new ArrayList<>();
+        for (StoreCategory storeCategory : storeCategoryRepository.findAllByStoreStoreId(store.getStoreId())) {
+            categoryNameList.add(categoryCache.findNameById(storeCategory.getCategory().getCategoryId()).orElseThrow(
+                    () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_ID_NOT_FOUND.getMessage())));
+        }
+
+        save(store, String.join(", ", categoryNameList));
+    }
+
+    @Transactional
+    public void remove(UUID storeId) {
+        if (storeFrontRepository.existsById(storeId)) {
+            storeFrontRepository.deleteById(storeId);
+        }
+    }
+
+    // 카테고리 이름 변경은 커밋 전이라 캐시에 반영되지 않았으므로 영속성 컨텍스트의 카테고리 이름을 사용
+    @Transactional
+    public void refreshByCategory(UUID categoryId) {
+        List<UUID> storeIds = storeCategoryRepository.findAllByCategoryCategoryId(categoryId).stream()
+                .map(storeCategory -> storeCategory.getStore().getStoreId())
+                .toList();
+        if (storeIds.isEmpty()) {
+            return;
+        }
+
+        refreshAll(storeRepository.findAllById(storeIds));
+    }
+
+    // 읽기 모델이 비어 있는 상태로 기동되면 (최초 배포 등) 전체 점포로 다시 채움
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (storeFrontRepository.count() > 0) {
+            return;
+        }
+
+        List<Store> storeList = storeRepository.findAll();
+        refreshAll(storeList);
+        log.info("점포 읽기 모델 재구성 완료: {}건", storeList.size());
+    }
+
+    private void refreshAll(List<Store> storeList) {
+        List<Store> activeStoreList = new ArrayList<>();
+        for (Store store : storeList) {
+            if (isDeleted(store)) {
+                remove(store.getStoreId());
+            } else {
+                activeStoreList.add(store);
+            }
+        }
+        if (activeStoreList.isEmpty()) {
+            return;
+        }
+
+        List<UUID> storeIds = activeStoreList.stream().map(Store::getStoreId).toList();
+        Map<UUID, List<String>> categoryNamesByStoreId = new HashMap<>();
+        for (StoreCategory storeCategory : storeCategoryRepository.findAllWithCategoryByStoreIdIn(storeIds)) {
+            categoryNamesByStoreId
+                    .computeIfAbsent(storeCategory.getStore().getStoreId(), storeId -> new ArrayList<>())
+                    .add(storeCategory.getCategory().getName());
+        }
+
+        for (Store store : activeStoreList) {
+            save(store, String.join(", ", categoryNamesByStoreId.getOrDefault(store.getStoreId(), List.of())));
+        }
+    }
+
+    private void save(Store store, String categoryNames) {
+        StoreFront storeFront = storeFrontRepository.findById(store.getStoreId())
+                .orElseGet(() -> StoreFront.from(store, categoryNames));
+        storeFront.update(store, categoryNames);
+        storeFrontRepository.save(storeFront);
+    }
+
+    private boolean isDeleted(Store store) {
+        return store.getDeletedDate() != null || store.getDeletedBy() != null;
+    }
+}
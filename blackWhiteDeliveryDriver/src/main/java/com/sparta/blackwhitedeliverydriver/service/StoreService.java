@@ -1,5 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.CategoryCache;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
@@ -7,33 +9,38 @@ import com.sparta.blackwhitedeliverydriver.dto.StoreByMasterRequestDto;
 import com.sparta.blackwhitedeliverydriver.entity.Category;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
+import com.sparta.blackwhitedeliverydriver.entity.StoreFront;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.CategoryExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.CursorSpecifications;
 import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreFrontRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,32 +53,27 @@ public class StoreService {
     private final StoreCategoryRepository storeCategoryRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final StoreFrontRepository storeFrontRepository;
+    private final CategoryCache categoryCache;
+    private final StoreFrontService storeFrontService;
+    private final StoreNameIndex storeNameIndex;
 
     public List<StoreResponseDto> getStores(int page, int size, String sortBy, boolean isAsc) {
-        Direction direction = isAsc ? Direction.ASC : Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.STORE.pageable(page, size, sortBy, isAsc);
 
-        Page<Store> storeList = storeRepository.findAllByDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(pageable);
-        List<StoreResponseDto> storeResponseDtoList = new ArrayList<>();
-
-        for(Store store : storeList.getContent()){
-            List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-            List<String> categoryNameList = new ArrayList<>();
-            for (StoreCategory storeCategory : storeCategoryList){
-                Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                        () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_NOT_FOUND.getMessage())
-                ));
+        // 목록 조회는 정규화 테이블 대신 점포 읽기 모델만 조회
+        Page<StoreFront> storeFrontList = storeFrontRepository.findAllByIsPublicTrue(pageable);
 
-                categoryNameList.add(category.get().getName());
-            }
-            String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
+        return storeFrontList.getContent().stream().map(StoreResponseDto::from).toList();
+    }
 
-            StoreResponseDto storeResponseDto = StoreResponseDto.from(store, categoryNames);
-            storeResponseDtoList.add(storeResponseDto);
-        }
+    public CursorPageResponseDto<StoreResponseDto> getStoresByCursor(String cursor, int size, boolean isAsc) {
+        size = PagingPolicy.STORE.size(size);
+        Window<StoreFront> storeFronts = CursorUtil.scroll(storeFrontRepository, CursorSpecifications.publicStoreFronts(),
+                cursor, size, isAsc, "storeId");
 
-        return storeResponseDtoList;
+        return CursorPageResponseDto.of(storeFronts, StoreResponseDto::from,
+                storeFront -> CursorUtil.encode(storeFront.getCreatedDate(), storeFront.getStoreId()));
     }
 
     public StoreResponseDto getStore(Boolean isExceptDelete, Boolean isPublic, UUID storeId) {
@@ -97,80 +99,39 @@ public class StoreService {
             );
         }
 
-        List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-        List<String> categoryNameList = new ArrayList<>();
-        for (StoreCategory storeCategory : storeCategoryList){
-            Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                    () -> new NullPointerException(storeCategory.getCategory().getCategoryId() + "라는 카테고리 ID는 없습니다.")
-            ));
-
-            categoryNameList.add(category.get().getName());
-        }
-        String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
-
-        return StoreResponseDto.from(store, categoryNames);
+        return toStoreResponseDtoList(List.of(store)).get(0);
     }
 
     public List<StoreResponseDto> getStoresOfOwner(User user, int page, int size, String sortBy, boolean isAsc) {
-        Direction direction = isAsc ? Direction.ASC : Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.STORE.pageable(page, size, sortBy, isAsc);
 
         Optional<User> newUser = Optional.ofNullable(userRepository.findByUsernameAndDeletedDateIsNullAndDeletedByIsNullAndPublicProfileTrue(user.getUsername()).orElseThrow(
                 () -> new UsernameNotFoundException(ExceptionMessage.USER_NOT_FOUND.getMessage())
         ));
         UserRoleEnum userRoleEnum = newUser.get().getRole();
 
-        Page<Store> storeList;
-        List<StoreResponseDto> storeResponseDtoList = new ArrayList<>();
-        if(userRoleEnum == UserRoleEnum.OWNER) {
-            storeList = storeRepository.findAllByUserAndDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(newUser.get(), pageable);
-
-            for(Store store : storeList.getContent()){
-                List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-                List<String> categoryNameList = new ArrayList<>();
-                for (StoreCategory storeCategory : storeCategoryList){
-                    Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                            () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_ID_NOT_FOUND.getMessage())
-                    ));
-
-                    categoryNameList.add(category.get().getName());
-                }
-                String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
-
-                StoreResponseDto storeResponseDto = StoreResponseDto.from(store, categoryNames);
-                storeResponseDtoList.add(storeResponseDto);
-            }
+        if(userRoleEnum != UserRoleEnum.OWNER) {
+            return new ArrayList<>();
         }
 
-        return storeResponseDtoList;
+        Page<StoreFront> storeFrontList = storeFrontRepository.findAllByUsernameAndIsPublicTrue(newUser.get().getUsername(), pageable);
+
+        return storeFrontList.getContent().stream().map(StoreResponseDto::from).toList();
     }
 
     public List<StoreResponseDto> searchStores(String storeName, int page, int size, String sortBy, boolean isAsc) {
-        Direction direction = isAsc ? Direction.ASC : Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-
-        Page<Store> storeList = storeRepository.findAllByStoreNameContainingAndDeletedDateIsNullAndDeletedByIsNull(storeName, pageable);
-        List<StoreResponseDto> storeResponseDtoList = new ArrayList<>();
-
-        for(Store store : storeList.getContent()){
-            List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-            List<String> categoryNameList = new ArrayList<>();
-            for (StoreCategory storeCategory : storeCategoryList){
-                Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                        () -> new NullPointerException(storeCategory.getCategory().getCategoryId() + "라는 카테고리 ID는 없습니다.")
-                ));
-
-                categoryNameList.add(category.get().getName());
-            }
-            String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
-
-            StoreResponseDto storeResponseDto = StoreResponseDto.from(store, categoryNames);
-            storeResponseDtoList.add(storeResponseDto);
+        Pageable pageable = PagingPolicy.STORE.pageable(page, size, sortBy, isAsc);
+
+        // 색인에서 찾은 점포 id 로 조회, 색인으로 좁히지 못하면 LIKE 조회
+        Optional<Set<UUID>> storeIds = storeNameIndex.findStoreIds(storeName);
+        Page<StoreFront> storeFrontList;
+        if (storeIds.isEmpty()) {
+            storeFrontList = storeFrontRepository.findAllByStoreNameContaining(storeName, pageable);
+        } else {
+            storeFrontList = storeFrontRepository.findAllByStoreIdIn(storeIds.get(), pageable);
         }
 
-        return storeResponseDtoList;
+        return storeFrontList.getContent().stream().map(StoreResponseDto::from).toList();
     }
 
     @Transactional
@@ -192,6 +153,8 @@ public class StoreService {
             StoreCategory storeCategory = StoreCategory.from(store, category);
             storeCategoryRepository.save(storeCategory);
         }
+        storeFrontService.refresh(store);
+        storeNameIndex.putAfterCommit(store);
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -217,6 +180,8 @@ public class StoreService {
             StoreCategory storeCategory = StoreCategory.from(store, category);
             storeCategoryRepository.save(storeCategory);
         }
+        storeFrontService.refresh(store);
+        storeNameIndex.putAfterCommit(store);
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -250,9 +215,7 @@ public class StoreService {
         }
 
         // 신규 카테고리는 저장
-        List<String> categoryNameList = new ArrayList<>();
         for(Category category : categorySet) {
-            categoryNameList.add(category.getName());
             StoreCategory storeCategory = storeCategoryRepository.findByStoreStoreIdAndCategoryCategoryId(store.getStoreId(), category.getCategoryId())
                             .orElseGet(() -> {
                                StoreCategory newStoreCategory = StoreCategory.from(store, category);
@@ -260,6 +223,8 @@ public class StoreService {
                             });
         }
         store.update(requestDto);
+        storeFrontService.refresh(store);
+        storeNameIndex.putAfterCommit(store);
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -290,9 +255,7 @@ public class StoreService {
         }
 
         // 신규 카테고리는 저장
-        List<String> categoryNameList = new ArrayList<>();
         for(Category category : categorySet) {
-            categoryNameList.add(category.getName());
             StoreCategory storeCategory = storeCategoryRepository.findByStoreStoreIdAndCategoryCategoryId(store.getStoreId(), category.getCategoryId())
                     .orElseGet(() -> {
                         StoreCategory newStoreCategory = StoreCategory.from(store, category);
@@ -300,6 +263,8 @@ public class StoreService {
                     });
         }
         store.updateByMaster(requestDto, userDetails);
+        storeFrontService.refresh(store);
+        storeNameIndex.putAfterCommit(store);
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -324,10 +289,38 @@ public class StoreService {
 
         store.setDeletedDate(LocalDateTime.now());
         store.setDeletedBy(newUser.getUsername());
+        storeFrontService.remove(store.getStoreId());
 
         return new StoreIdResponseDto(store.getStoreId());
     }
 
+    // 점포 목록의 카테고리를 한 번의 조회로 가져오고 이름은 카테고리 캐시에서 채워서 응답 DTO로 변환
+    private List<StoreResponseDto> toStoreResponseDtoList(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> storeIds = stores.stream().map(Store::getStoreId).toList();
+        Map<UUID, List<String>> categoryNamesByStoreId = new HashMap<>();
+        for (StoreCategory storeCategory : storeCategoryRepository.findAllByStoreStoreIdIn(storeIds)) {
+            UUID categoryId = storeCategory.getCategory().getCategoryId();
+            String categoryName = categoryCache.findNameById(categoryId).orElseThrow(
+                    () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_ID_NOT_FOUND.getMessage()));
+            categoryNamesByStoreId
+                    .computeIfAbsent(storeCategory.getStore().getStoreId(), storeId -> new ArrayList<>())
+                    .add(categoryName);
+        }
+
+        List<StoreResponseDto> storeResponseDtoList = new ArrayList<>();
+        for (Store store : stores) {
+            String categoryNames = String.join(", ",
+                    categoryNamesByStoreId.getOrDefault(store.getStoreId(), List.of()));
+            storeResponseDtoList.add(StoreResponseDto.from(store, categoryNames));
+        }
+
+        return storeResponseDtoList;
+    }
+
     private List<Category> getCategoryList(String categoryNames) {
         Set<String> categorySet = new HashSet<>();
         Arrays.stream(categoryNames.split(","))
@@ -336,9 +329,10 @@ public class StoreService {
 
         List<Category> categoryList = new ArrayList<>();
         for(String categoryName : categorySet) {
-            Category category = categoryRepository.findByName(categoryName).orElseThrow(
+            // 이름 -> ID 변환은 캐시에서, 엔티티는 프록시 참조만 사용해서 DB 조회 없이 처리
+            UUID categoryId = categoryCache.findIdByName(categoryName).orElseThrow(
                     () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_ID_NOT_FOUND.getMessage()));
-            categoryList.add(category);
+            categoryList.add(categoryRepository.getReferenceById(categoryId));
         }
 
         return categoryList;
@@ -382,6 +376,7 @@ public class StoreService {
         if(!store.isPresent()){throw new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage());}
 
         store.get().updatePublic(store.get().getIsPublic());
+        storeFrontService.refresh(store.get());
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.get().getStoreId());
 
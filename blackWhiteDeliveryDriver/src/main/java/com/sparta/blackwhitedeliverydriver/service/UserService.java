@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.UserCache;
 import com.sparta.blackwhitedeliverydriver.dto.SignupRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.UpdateUserRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.UserResponseDto;
@@ -8,15 +9,14 @@ import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.util.PagingPolicy;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -30,6 +30,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuditorAware<String> auditorAware;
+    private final UserCache userCache;
 
     @Transactional
     public UsernameResponseDto signup(@Valid SignupRequestDto requestDto, UserRoleEnum loggedInRole) {
@@ -53,7 +54,7 @@ public class UserService {
     }
 
     public UserResponseDto getUserInfo(String username, String loggedInUsername) {
-        User loggedInUser = userRepository.findById(loggedInUsername)
+        User loggedInUser = userCache.findByUsername(loggedInUsername)
                 .orElseThrow(() -> new UsernameNotFoundException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
 
         User user = userRepository.findById(username)
@@ -72,16 +73,10 @@ public class UserService {
     public Page<UserResponseDto> searchUser(
             String keyword, int page, int size, String sortBy, boolean isAsc, String loggedInUsername) {
 
-        if (size != 10 && size != 30 && size != 50) {
-            size = 10;
-        }
-
         // 페이징 처리
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PagingPolicy.USER.pageable(page, size, sortBy, isAsc);
 
-        User loggedInUser = userRepository.findById(loggedInUsername)
+        User loggedInUser = userCache.findByUsername(loggedInUsername)
                 .orElseThrow(() -> new UsernameNotFoundException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
 
         Page<User> userPage;
@@ -107,6 +102,7 @@ public class UserService {
         user.update(requestDto, passwordEncoder);
 
         userRepository.save(user);
+        userCache.evictAfterCommit(user.getUsername());
 
         return new UsernameResponseDto(user.getUsername());
     }
@@ -126,6 +122,7 @@ public class UserService {
         user.setDeletedDate(LocalDateTime.now());
 
         userRepository.save(user);
+        userCache.evictAfterCommit(user.getUsername());
 
         return new UsernameResponseDto(user.getUsername());
     }
@@ -0,0 +1,78 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+// 커서 페이징용 토큰 (createdDate + id) 인코딩/디코딩. 클라이언트에게는 불투명한 문자열로만 노출
+public final class CursorUtil {
+    private static final String DELIMITER = "|";
+    private static final String CREATED_DATE = "createdDate";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(LocalDateTime createdDate, UUID id) {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 첫 페이지 요청으로 취급
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException(ExceptionMessage.INVALID_CURSOR.getMessage());
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), UUID.fromString(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64, 날짜, UUID 파싱 오류는 모두 잘못된 커서로 응답
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_CURSOR.getMessage());
+        }
+    }
+
+    // 키셋 조회는 항상 (createdDate, id) 순서로 정렬해야 커서 위치가 유일하게 결정됨
+    public static Sort keysetSort(boolean isAsc, String idAttribute) {
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, CREATED_DATE, idAttribute);
+    }
+
+    public static ScrollPosition toScrollPosition(String token, String idAttribute) {
+        Cursor cursor = decode(token);
+        if (cursor == null) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(CREATED_DATE, cursor.createdDate());
+        keys.put(idAttribute, cursor.id());
+        return ScrollPosition.forward(keys);
+    }
+
+    // 다음 페이지 판단을 위해 size + 1 건만 조회 (COUNT 쿼리 없음)
+    public static <T> Window<T> scroll(JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                                       String token, int size, boolean isAsc, String idAttribute) {
+        return repository.findBy(specification, query -> query
+                .sortBy(keysetSort(isAsc, idAttribute))
+                .limit(size)
+                .scroll(toScrollPosition(token, idAttribute)));
+    }
+
+    public record Cursor(LocalDateTime createdDate, UUID id) {
+    }
+}
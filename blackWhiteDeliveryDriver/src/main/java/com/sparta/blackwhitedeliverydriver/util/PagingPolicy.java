@@ -0,0 +1,60 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// 목록 조회 API 별 페이지 크기와 정렬 기준 정책
+// 정렬 키는 인덱스가 있는 컬럼만 허용해서 대용량 테이블의 전체 정렬을 막는다. (인덱스는 각 엔티티의 @Table 참고)
+public enum PagingPolicy {
+    ORDER(Map.of("createdDate", "createdDate")),
+    BASKET(Map.of("createdDate", "createdDate")),
+    PAY(Map.of("createdDate", "createdDate")),
+    REVIEW(Map.of("createdDate", "createdDate")),
+    USER(Map.of("createdDate", "createdDate", "username", "username")),
+    ADDRESS(Map.of("createdDate", "createdDate")),
+    CATEGORY(Map.of("createdDate", "createdDate", "name", "name")),
+    STORE(Map.of("createdDate", "createdDate", "storeName", "storeName")),
+    PRODUCT(Map.of("createdDate", "createdDate"));
+
+    private static final List<Integer> ALLOWED_SIZES = List.of(10, 30, 50);
+    private static final int DEFAULT_SIZE = 10;
+    private static final String DEFAULT_SORT_KEY = "createdDate";
+    // 클라이언트에서 자주 쓰는 이름은 같은 컬럼으로 변환
+    private static final Map<String, String> ALIASES = Map.of("createdAt", "createdDate");
+
+    private final Map<String, String> sortKeys;
+
+    PagingPolicy(Map<String, String> sortKeys) {
+        this.sortKeys = sortKeys;
+    }
+
+    public Pageable pageable(int page, int size, String sortBy, boolean isAsc) {
+        return PageRequest.of(page, size(size), sort(sortBy, isAsc));
+    }
+
+    // 10, 30, 50 이외의 크기는 10으로 조정
+    public int size(int size) {
+        return ALLOWED_SIZES.contains(size) ? size : DEFAULT_SIZE;
+    }
+
+    public Sort sort(String sortBy, boolean isAsc) {
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, sortProperty(sortBy));
+    }
+
+    private String sortProperty(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return DEFAULT_SORT_KEY;
+        }
+
+        String property = sortKeys.get(ALIASES.getOrDefault(sortBy, sortBy));
+        if (property == null) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_SORT_KEY.getMessage());
+        }
+        return property;
+    }
+}
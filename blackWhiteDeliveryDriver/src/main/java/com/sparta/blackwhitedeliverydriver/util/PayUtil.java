@@ -34,7 +34,7 @@ public class PayUtil {
         parameters.put("cid", CID);
         parameters.put("partner_order_id", order.getId().toString());
         parameters.put("partner_user_id", user.getUsername());
-        parameters.put("item_name", "흑백 기사 배달 주문");
+        parameters.put("item_name", Pay.ITEM_NAME);
         parameters.put("quantity", "1");
         parameters.put("total_amount", order.getFinalPay().toString());
         parameters.put("vat_amount", "0");
@@ -68,6 +68,14 @@ public class PayUtil {
         return parameters;
     }
 
+    public Map<String, String> getOrderLookupParameters(Pay pay) {
+        // 카카오페이 요청
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cid", CID);
+        parameters.put("tid", pay.getTid());
+        return parameters;
+    }
+
     public Map<String, String> getRefundParameters(Pay pay, int cancelAmount) {
         // 카카오페이 요청
         Map<String, String> parameters = new HashMap<>();
@@ -0,0 +1,50 @@
+-- 점포 목록/검색 읽기 모델 (StoreFront)
+-- ddl-auto=none 환경(prod)에서는 배포 전에 한 번 실행한다.
+-- 비어 있는 채로 기동하면 StoreFrontService.rebuildIfEmpty 가 채우지만, 여러 인스턴스가 동시에 기동하면
+-- 같은 점포를 중복 저장하다 실패하므로 마지막 INSERT 로 삭제되지 않은 점포를 미리 채워 둔다.
+
+CREATE TABLE IF NOT EXISTS p_store_front (
+    avg_rating float(53) not null,
+    close_time time(6) not null,
+    is_public boolean not null,
+    open_time time(6) not null,
+    rating integer not null,
+    review_cnt integer not null,
+    created_date timestamp(6),
+    last_modified_date timestamp(6),
+    store_id uuid not null,
+    category varchar(255) not null,
+    city varchar(255) not null,
+    detail_addr varchar(255) not null,
+    district varchar(255) not null,
+    img_url varchar(255),
+    phone_number varchar(255) not null,
+    store_intro varchar(255) not null,
+    store_name varchar(255) not null,
+    street_name varchar(255) not null,
+    street_number varchar(255) not null,
+    username varchar(255) not null,
+    zip_num varchar(255) not null,
+    primary key (store_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_front_public_created ON p_store_front (is_public, created_date);
+CREATE INDEX IF NOT EXISTS idx_store_front_username_created ON p_store_front (username, created_date);
+CREATE INDEX IF NOT EXISTS idx_store_front_store_name ON p_store_front (store_name);
+
+-- 평균 평점은 StoreFront.update 와 같이 rating / review_cnt (리뷰가 없으면 NaN)
+INSERT INTO p_store_front (avg_rating, close_time, is_public, open_time, rating, review_cnt, created_date,
+                           last_modified_date, store_id, category, city, detail_addr, district, img_url,
+                           phone_number, store_intro, store_name, street_name, street_number, username, zip_num)
+SELECT CASE WHEN s.review_cnt = 0 THEN CAST('NaN' AS float(53))
+            ELSE CAST(s.rating AS float(53)) / s.review_cnt END,
+       s.close_time, s.is_public, s.open_time, s.rating, s.review_cnt, s.created_date,
+       s.last_modified_date, s.store_id, COALESCE(sc.category, ''), s.city, s.detail_addr, s.district, s.img_url,
+       s.phone_number, s.store_intro, s.store_name, s.street_name, s.street_number, s.user_username, s.zip_num
+FROM p_stores s
+LEFT JOIN (SELECT psc.store_store_id, STRING_AGG(c.name, ', ') AS category
+           FROM p_store_category psc
+           JOIN p_category c ON c.category_id = psc.category_category_id
+           GROUP BY psc.store_store_id) sc ON sc.store_store_id = s.store_id
+WHERE s.deleted_date IS NULL AND s.deleted_by IS NULL
+ON CONFLICT DO NOTHING;
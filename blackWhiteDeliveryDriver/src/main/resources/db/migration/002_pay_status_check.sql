@@ -0,0 +1,10 @@
+-- 결제 상태 추가 (APPROVING, REFUNDING, FAILED)
+-- Hibernate 가 만든 p_pay 의 pay_status 검사 제약은 SUCCESS, REFUND 만 허용하고, ddl-auto=update/none 은 이 제약을 고치지 않으므로
+-- 배포 전에 실행한다. 이후 PayStatusEnum 에 값을 추가하면 이 제약도 함께 바꿔야 한다.
+
+ALTER TABLE p_pay DROP CONSTRAINT IF EXISTS p_pay_pay_status_check;
+ALTER TABLE p_pay ADD CONSTRAINT p_pay_pay_status_check
+    CHECK (pay_status IN ('SUCCESS', 'REFUND', 'APPROVING', 'REFUNDING', 'FAILED'));
+
+-- PayRecoveryService 가 오래 머문 승인/환불 중 결제를 고르는 조건 (pay_status IN (...) AND last_modified_date < ?)
+CREATE INDEX IF NOT EXISTS idx_pay_status_modified ON p_pay (pay_status, last_modified_date);
@@ -0,0 +1,22 @@
+-- 점포 주인이 거절한 주문의 환불 작업 (RefundJob)
+-- ddl-auto=none 환경(prod)에서는 배포 전에 실행한다. 없으면 주문 거절(refundPaymentByReject)이 작업 저장에서 실패한다.
+
+CREATE TABLE IF NOT EXISTS p_refund_job (
+    attempts integer not null,
+    created_date timestamp(6),
+    deleted_date timestamp(6),
+    last_modified_date timestamp(6),
+    next_attempt_at timestamp(6) not null,
+    id uuid not null,
+    pay_id uuid not null,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    last_error varchar(255),
+    last_modified_by varchar(255),
+    status varchar(255) not null check (status in ('PENDING','PROCESSING','SUCCEEDED','FAILED')),
+    primary key (id),
+    constraint FKhmtp0eubmxsphc5ymq5xdvnoi foreign key (pay_id) references p_pay
+);
+
+-- 작업 스레드가 처리할 작업을 고르는 조건 (status = PENDING AND next_attempt_at <= now)
+CREATE INDEX IF NOT EXISTS idx_refund_job_status_next ON p_refund_job (status, next_attempt_at);
@@ -0,0 +1,5 @@
+-- 점포 메뉴 버전 (메뉴 조회 캐시 키, StoreRepository.increaseMenuVersion 으로만 올림)
+-- ddl-auto=none 환경(prod)에서는 배포 전에 실행한다. 없으면 점포 조회와 메뉴 조회가 menu_version 컬럼을 찾지 못해 실패한다.
+-- 기존 점포는 0 으로 채워진다.
+
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS menu_version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,33 @@
+-- 목록 조회 정렬/필터 인덱스
+-- 엔티티의 @Table(indexes = ...) 는 ddl-auto=update 환경(local)에서만 만들어지므로 ddl-auto=none 환경(prod)에서는 배포 전에 실행한다.
+-- 없으면 목록 조회가 전체 테이블을 읽고 정렬한다.
+
+-- 사용자별 배송지 목록 (user_username = ? ORDER BY created_date)
+CREATE INDEX IF NOT EXISTS idx_address_user_created ON p_address (user_username, created_date);
+
+-- AI 질문/답변 기록 목록
+CREATE INDEX IF NOT EXISTS idx_ai_created ON p_ai (created_date);
+
+-- 장바구니 목록 (user_id = ? ORDER BY created_date), 관리자 전체 목록
+CREATE INDEX IF NOT EXISTS idx_basket_user_created ON p_basket (user_id, created_date);
+CREATE INDEX IF NOT EXISTS idx_basket_created ON p_basket (created_date);
+
+-- 카테고리 목록
+CREATE INDEX IF NOT EXISTS idx_category_created ON p_category (created_date);
+
+-- 고객/점포별 주문 목록, 관리자 전체 목록
+CREATE INDEX IF NOT EXISTS idx_order_user_created ON p_order (user_id, created_date);
+CREATE INDEX IF NOT EXISTS idx_order_store_created ON p_order (store_id, created_date);
+CREATE INDEX IF NOT EXISTS idx_order_created ON p_order (created_date);
+
+-- 결제 목록
+CREATE INDEX IF NOT EXISTS idx_pay_created ON p_pay (created_date);
+
+-- 점포별 음식 목록 (store_store_id = ? ORDER BY created_date)
+CREATE INDEX IF NOT EXISTS idx_product_store_created ON p_product (store_store_id, created_date);
+
+-- 리뷰 목록
+CREATE INDEX IF NOT EXISTS idx_review_created ON p_review (created_date);
+
+-- 회원 목록
+CREATE INDEX IF NOT EXISTS idx_user_created ON p_user (created_date);
@@ -0,0 +1,114 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sparta.blackwhitedeliverydriver.entity.AI;
+import com.sparta.blackwhitedeliverydriver.repository.AIRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AIResponseCacheTest {
+    static final String SUFFIX = ", 답변을 최대한 간결하게 50자 이하로";
+
+    AIRepository aiRepository = mock(AIRepository.class);
+
+    @Test
+    @DisplayName("공백과 대소문자만 다른 질문은 같은 응답 사용, 지시문이 다르면 사용하지 않음")
+    void find_normalizedPrompt() {
+        //given
+        AIResponseCache cache = new AIResponseCache(aiRepository, new SimpleMeterRegistry(), 100, 60, false, 100);
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("치킨 메뉴  Name 추천", SUFFIX, () -> "흑백 치킨" + calls.incrementAndGet());
+
+        //when
+        String sameQuestion = cache.get("  치킨   메뉴 name 추천 ", SUFFIX, () -> "흑백 치킨" + calls.incrementAndGet());
+        String otherSuffix = cache.get("치킨 메뉴 name 추천", ", 100자 이하로", () -> "흑백 치킨" + calls.incrementAndGet());
+
+        //then
+        assertEquals("흑백 치킨1", sameQuestion);
+        assertEquals("흑백 치킨2", otherSuffix);
+    }
+
+    @Test
+    @DisplayName("최근 p_ai 기록으로 캐시 적재 - 같은 질문은 최신 응답 사용")
+    void warmUp() {
+        //given
+        AIResponseCache cache = new AIResponseCache(aiRepository, new SimpleMeterRegistry(), 100, 60, true, 100);
+        // 최신순 조회 결과
+        List<AI> recentAnswers = List.of(
+                AI.builder().prompt("치킨 메뉴 추천").answer("새 응답").build(),
+                AI.builder().prompt("치킨 메뉴 추천").answer("이전 응답").build());
+        given(aiRepository.findAllByCreatedDateAfter(any(), any())).willReturn(recentAnswers);
+
+        //when
+        cache.warmUp(SUFFIX);
+
+        //then
+        assertEquals("새 응답", cache.get("치킨 메뉴 추천", SUFFIX, () -> "Gemini 응답"));
+    }
+
+    @Test
+    @DisplayName("같은 질문이 동시에 들어오면 Gemini 호출 1건의 결과를 함께 사용")
+    void get_coalescesConcurrentRequests() throws Exception {
+        //given
+        AIResponseCache cache = new AIResponseCache(aiRepository, new SimpleMeterRegistry(), 100, 60, false, 100);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<String>> answers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            answers.add(executor.submit(() -> cache.get("치킨 메뉴 추천", SUFFIX, () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "흑백 치킨";
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        //then
+        for (Future<String> answer : answers) {
+            assertEquals("흑백 치킨", answer.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Gemini 호출이 실패하면 캐시에 남기지 않고 다음 요청에서 다시 호출")
+    void get_failureNotCached() {
+        //given
+        AIResponseCache cache = new AIResponseCache(aiRepository, new SimpleMeterRegistry(), 100, 60, false, 100);
+
+        //when
+        assertThrows(IllegalStateException.class, () -> cache.get("치킨 메뉴 추천", SUFFIX, () -> {
+            throw new IllegalStateException("gemini error");
+        }));
+
+        //then
+        assertEquals("흑백 치킨", cache.get("치킨 메뉴 추천", SUFFIX, () -> "흑백 치킨"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.entity.Category;
+import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class CategoryCacheTest {
+    CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CategoryCache categoryCache = new CategoryCache(categoryRepository, meterRegistry);
+    Category korean = Category.builder().categoryId(UUID.randomUUID()).name("한식").build();
+    Category chicken = Category.builder().categoryId(UUID.randomUUID()).name("치킨").build();
+
+    @BeforeEach
+    void setUp() {
+        given(categoryRepository.findAll()).willReturn(List.of(korean), List.of(korean, chicken));
+        categoryCache.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 후 커밋되면 다시 적재")
+    void reloadAfterCommit_commit() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        categoryCache.reloadAfterCommit();
+        verify(categoryRepository, times(1)).findAll();
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        //then
+        verify(categoryRepository, times(2)).findAll();
+        assertEquals(Optional.of(chicken.getCategoryId()), categoryCache.findIdByName("치킨"));
+    }
+
+    @Test
+    @DisplayName("카테고리 변경이 롤백되면 기존 스냅샷 유지")
+    void reloadAfterCommit_rollback() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        categoryCache.reloadAfterCommit();
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        verify(categoryRepository, times(1)).findAll();
+        assertEquals(Optional.of("한식"), categoryCache.findNameById(korean.getCategoryId()));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 추가된 카테고리 - 미적중 시 DB 에서 찾고 다시 적재")
+    void findIdByName_missLoadsFromDatabase() {
+        //given
+        given(categoryRepository.findByName("치킨")).willReturn(Optional.of(chicken));
+
+        //when
+        Optional<UUID> categoryId = categoryCache.findIdByName("치킨");
+        Optional<String> reloadedName = categoryCache.findNameById(chicken.getCategoryId());
+
+        //then
+        assertEquals(Optional.of(chicken.getCategoryId()), categoryId);
+        assertEquals(Optional.of("치킨"), reloadedName);
+        verify(categoryRepository, times(1)).findByName("치킨");
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("DB 에도 없는 카테고리 - 다시 적재하지 않음")
+    void findIdByName_missNotInDatabase() {
+        //when
+        Optional<UUID> categoryId = categoryCache.findIdByName("피자");
+
+        //then
+        assertTrue(categoryId.isEmpty());
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("적중/미적중 횟수 기록")
+    void counters() {
+        //when
+        categoryCache.findIdByName("한식");
+        categoryCache.findNameById(korean.getCategoryId());
+        categoryCache.findIdByName("피자");
+
+        //then
+        assertEquals(2, meterRegistry.get("category.cache").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("category.cache").tag("result", "miss").counter().count());
+    }
+}
@@ -0,0 +1,173 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 네트워크 없이 외부 API 장애 상황을 재현하기 위한 로컬 가짜 서버
+// 경로별 응답 본문을 등록해 두고, 응답 지연 분포, 5xx 오류 비율, 초당 처리 한도를 테스트 중에 바꿀 수 있다.
+// 카카오페이/Gemini 응답을 흉내 내는 서버는 FakeUpstreams 참고
+public class FakeUpstreamServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Supplier<String>> responses = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile LatencyDistribution latency = LatencyDistribution.fixed(0);
+    private volatile double errorRate;
+    private volatile RateLimit rateLimit;
+
+    private FakeUpstreamServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static FakeUpstreamServer start() throws IOException {
+        return start(0);
+    }
+
+    public static FakeUpstreamServer start(int port) throws IOException {
+        FakeUpstreamServer fake = new FakeUpstreamServer(HttpServer.create(new InetSocketAddress("localhost", port), 0));
+        fake.server.createContext("/", fake::handle);
+        fake.server.setExecutor(fake.executor);
+        fake.server.start();
+        return fake;
+    }
+
+    public String baseUri() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public FakeUpstreamServer respond(String path, String body) {
+        return respond(path, () -> body);
+    }
+
+    // 요청마다 응답 본문을 새로 만드는 경우 (승인 시각 등)
+    public FakeUpstreamServer respond(String path, Supplier<String> body) {
+        responses.put(path, body);
+        return this;
+    }
+
+    public FakeUpstreamServer latencyMs(long latencyMs) {
+        return latency(LatencyDistribution.fixed(latencyMs));
+    }
+
+    public FakeUpstreamServer latency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    // 0.0 ~ 1.0, 이 비율만큼 503 응답
+    public FakeUpstreamServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    // 초당 처리 한도. 넘는 요청은 429 응답 (0 이하면 제한 없음)
+    public FakeUpstreamServer maxRequestsPerSecond(int maxRequestsPerSecond) {
+        this.rateLimit = maxRequestsPerSecond > 0 ? new RateLimit(maxRequestsPerSecond) : null;
+        return this;
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            RateLimit currentRateLimit = rateLimit;
+            if (currentRateLimit != null && !currentRateLimit.tryAcquire()) {
+                write(exchange, 429, "{\"error\":\"too many requests\"}");
+                return;
+            }
+            sleep(latency.sampleMs());
+
+            Supplier<String> body = responses.get(exchange.getRequestURI().getPath());
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                write(exchange, 503, "{\"error\":\"unavailable\"}");
+            } else if (body == null) {
+                write(exchange, 404, "{\"error\":\"not found\"}");
+            } else {
+                write(exchange, 200, body.get());
+            }
+        }
+    }
+
+    private static void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // 응답 지연 분포 (ms)
+    @FunctionalInterface
+    public interface LatencyDistribution {
+        long sampleMs();
+
+        static LatencyDistribution fixed(long millis) {
+            return () -> millis;
+        }
+
+        static LatencyDistribution uniform(long minMs, long maxMs) {
+            return () -> ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+        }
+
+        // 중앙값과 p99 로 정하는 로그정규 분포 (외부 API 응답 시간처럼 꼬리가 긴 분포)
+        static LatencyDistribution logNormal(double medianMs, double p99Ms) {
+            double mu = Math.log(medianMs);
+            double sigma = (Math.log(p99Ms) - mu) / 2.326;
+            return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+
+    // 1초 단위 고정 구간 카운터
+    private static final class RateLimit {
+        private final int maxRequestsPerSecond;
+        private long windowSecond;
+        private int count;
+
+        private RateLimit(int maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+        }
+
+        synchronized boolean tryAcquire() {
+            long currentSecond = System.nanoTime() / 1_000_000_000L;
+            if (currentSecond != windowSecond) {
+                windowSecond = currentSecond;
+                count = 0;
+            }
+            return ++count <= maxRequestsPerSecond;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import com.sparta.blackwhitedeliverydriver.client.FakeUpstreamServer.LatencyDistribution;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 카카오페이 / Gemini 응답을 흉내 내는 가짜 서버
+// 부하 테스트 시 main 으로 띄운 뒤 애플리케이션의 pay.client.base-uri, ai.client.base-uri 를 출력된 주소로 바꿔 실행한다.
+public final class FakeUpstreams {
+    public static final String KAKAOPAY_BASE_PATH = "/online/v1";
+    public static final String GEMINI_PATH = "/v1beta/models/gemini-1.5-flash-latest:generateContent";
+    public static final String GEMINI_STREAM_PATH = "/v1beta/models/gemini-1.5-flash-latest:streamGenerateContent";
+    public static final String GEMINI_ANSWER = "흑백 치킨";
+    // 스트리밍 응답은 조각 2개로 나눠 보냄
+    public static final List<String> GEMINI_STREAM_CHUNKS = List.of("흑백 ", "치킨");
+
+    private FakeUpstreams() {
+    }
+
+    public static FakeUpstreamServer kakaoPay() throws IOException {
+        return kakaoPay(0);
+    }
+
+    public static FakeUpstreamServer kakaoPay(int port) throws IOException {
+        return FakeUpstreamServer.start(port)
+                .respond(KAKAOPAY_BASE_PATH + "/payment/ready", () -> """
+                        {"tid":"%s","next_redirect_pc_url":"http://localhost/pay","created_at":"%s"}
+                        """.formatted("T" + UUID.randomUUID(), now()))
+                .respond(KAKAOPAY_BASE_PATH + "/payment/approve", () -> """
+                        {"tid":"T1","cid":"TC0ONETIME","item_name":"흑백 기사 배달 주문","quantity":1,
+                        "amount":{"total":10000,"tax_free":0,"tax":0},"approved_at":"%s"}
+                        """.formatted(now()))
+                .respond(KAKAOPAY_BASE_PATH + "/payment/cancel", () -> """
+                        {"tid":"T1","cid":"TC0ONETIME","status":"CANCEL_PAYMENT","amount":{"total":10000},
+                        "canceled_amount":{"total":10000},"canceled_at":"%s"}
+                        """.formatted(now()))
+                .respond(KAKAOPAY_BASE_PATH + "/payment/order", """
+                        {"tid":"T1","cid":"TC0ONETIME","status":"SUCCESS_PAYMENT","item_name":"흑백 기사 배달 주문",
+                        "amount":{"total":10000},"approved_at":"2024-10-18T12:00:00"}
+                        """);
+    }
+
+    public static FakeUpstreamServer gemini() throws IOException {
+        return gemini(0);
+    }
+
+    public static FakeUpstreamServer gemini(int port) throws IOException {
+        return FakeUpstreamServer.start(port)
+                .respond(GEMINI_PATH, """
+                        {"candidates":[{"content":{"parts":[{"text":"%s"}],"role":"model"},"finishReason":"STOP"}]}
+                        """.formatted(GEMINI_ANSWER))
+                .respond(GEMINI_STREAM_PATH, GEMINI_STREAM_CHUNKS.stream()
+                        .map(chunk -> """
+                                data: {"candidates":[{"content":{"parts":[{"text":"%s"}],"role":"model"}}]}
+
+                                """.formatted(chunk))
+                        .collect(Collectors.joining()));
+    }
+
+    // 실행 예: main 18080 18081 (카카오페이 포트, Gemini 포트)
+    public static void main(String[] args) throws IOException {
+        int kakaoPayPort = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        int geminiPort = args.length > 1 ? Integer.parseInt(args[1]) : 18081;
+
+        // 실제 응답 시간과 비슷한 지연 (중앙값 / p99)
+        FakeUpstreamServer kakaoPay = kakaoPay(kakaoPayPort)
+                .latency(LatencyDistribution.logNormal(150, 800));
+        FakeUpstreamServer gemini = gemini(geminiPort)
+                .latency(LatencyDistribution.logNormal(1200, 4000))
+                .maxRequestsPerSecond(15);
+
+        System.out.println("PAY_CLIENT_BASE_URI=" + kakaoPay.baseUri() + KAKAOPAY_BASE_PATH);
+        System.out.println("AI_CLIENT_BASE_URI=" + gemini.baseUri());
+    }
+
+    private static String now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+}
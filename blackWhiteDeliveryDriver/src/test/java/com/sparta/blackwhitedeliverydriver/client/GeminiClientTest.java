@@ -0,0 +1,81 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+class GeminiClientTest {
+    FakeUpstreamServer upstream;
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    GeminiClient geminiClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = FakeUpstreams.gemini();
+        // 1분에 1건, 권한 대기는 100ms 까지
+        RateLimiter rateLimiter = RateLimiter.of("gemini", RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ofMillis(100))
+                .build());
+        UpstreamGuard upstreamGuard = UpstreamGuard.of("gemini",
+                new UpstreamGuard.Settings(10, 0, 20, 10, 50, 30000, 3), "unavailable",
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), meterRegistry);
+        geminiClient = new GeminiClient(new RestTemplateBuilder(), meterRegistry, upstreamGuard, rateLimiter, "key",
+                upstream.baseUri(), 1000, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.close();
+    }
+
+    @Test
+    @DisplayName("할당량을 넘는 요청은 정해진 시간만 기다린 뒤 Gemini 호출 없이 실패")
+    void rateLimited() {
+        //given
+        geminiClient.generateContent(Map.of("contents", Map.of()));
+
+        //when
+        UpstreamUnavailableException exception = assertThrows(UpstreamUnavailableException.class,
+                () -> geminiClient.generateContent(Map.of("contents", Map.of())));
+
+        //then
+        assertEquals(UpstreamExceptionMessage.AI_RATE_LIMITED.getMessage(), exception.getMessage());
+        assertEquals(1, upstream.requestCount());
+        double maxWaitMs = meterRegistry.get("gemini.client.rate-limiter.wait").timer().max(TimeUnit.MILLISECONDS);
+        assertTrue(maxWaitMs >= 90 && maxWaitMs < 1000);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답은 data 줄마다 조각 텍스트를 순서대로 전달")
+    void streamGenerateContent() {
+        //given
+        List<String> chunks = new ArrayList<>();
+
+        //when
+        geminiClient.streamGenerateContent(Map.of("contents", Map.of()), chunks::add).join();
+
+        //then
+        assertEquals(FakeUpstreams.GEMINI_STREAM_CHUNKS, chunks);
+        assertEquals(1, upstream.requestCount());
+    }
+}
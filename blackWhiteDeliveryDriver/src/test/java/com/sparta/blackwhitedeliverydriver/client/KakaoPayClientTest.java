@@ -0,0 +1,76 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayReadyResponseDto;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.client.ResourceAccessException;
+
+class KakaoPayClientTest {
+    FakeUpstreamServer upstream;
+    KakaoPayClient kakaoPayClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = FakeUpstreams.kakaoPay();
+        kakaoPayClient = create(upstream, 200, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        kakaoPayClient.destroy();
+        upstream.close();
+    }
+
+    @Test
+    @DisplayName("가짜 카카오페이 서버로 결제 준비, 승인, 취소 응답 확인")
+    void readyApproveCancel() {
+        //given
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(Map.of("cid", "TC0ONETIME"));
+
+        //when
+        PayReadyResponseDto readyResponse = kakaoPayClient.ready(request);
+        PayApproveResponseDto approveResponse = kakaoPayClient.approve(request);
+        PayCancelResponseDto cancelResponse = kakaoPayClient.cancel(request);
+
+        //then
+        assertNotNull(readyResponse.getTid());
+        assertEquals(10000, approveResponse.getAmount().getTotal());
+        assertNotNull(approveResponse.getApproved_at());
+        assertEquals(10000, cancelResponse.getCanceled_amount().getTotal());
+        assertEquals(3, upstream.requestCount());
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 타임아웃보다 늦으면 기다리지 않고 실패")
+    void readTimeout() {
+        //given
+        upstream.latencyMs(1000);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(Map.of("cid", "TC0ONETIME"));
+
+        //when - then
+        assertThrows(ResourceAccessException.class, () -> kakaoPayClient.ready(request));
+    }
+
+    static KakaoPayClient create(FakeUpstreamServer upstream, long readTimeoutMs, MeterRegistry meterRegistry) {
+        UpstreamGuard upstreamGuard = UpstreamGuard.of("kakaopay",
+                new UpstreamGuard.Settings(20, 0, 20, 10, 50, 30000, 3), "unavailable",
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), meterRegistry);
+        return new KakaoPayClient(new RestTemplateBuilder(), meterRegistry, upstreamGuard,
+                upstream.baseUri() + FakeUpstreams.KAKAOPAY_BASE_PATH, 1000, readTimeoutMs, 1000, 50);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import com.sparta.blackwhitedeliverydriver.client.FakeUpstreamServer.LatencyDistribution;
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+// 가짜 카카오페이/Gemini 서버를 상대로 결제(준비-승인-취소)와 AI 요청을 동시에 실행해 처리량과 지연 시간 측정
+// (gradle benchmark 로 실행, 지연 분포/오류율/처리 한도는 아래 상수로 조정)
+@Tag("benchmark")
+class UpstreamFlowBenchmarkTest {
+    // 동시 사용자 수 (bulkhead 한도 안쪽: 카카오페이 20, Gemini 10)
+    static final int CHECKOUT_THREADS = 16;
+    static final int AI_THREADS = 8;
+    static final long DURATION_SECONDS = 10;
+
+    @Test
+    @DisplayName("결제 흐름 / AI 요청 처리량과 지연 시간")
+    void checkoutAndAiFlows() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (FakeUpstreamServer kakaoPay = FakeUpstreams.kakaoPay()
+                .latency(LatencyDistribution.logNormal(50, 300))
+                .errorRate(0.01);
+             FakeUpstreamServer gemini = FakeUpstreams.gemini()
+                     .latency(LatencyDistribution.logNormal(300, 1500))
+                     .maxRequestsPerSecond(40)) {
+            KakaoPayClient kakaoPayClient = KakaoPayClientTest.create(kakaoPay, 10000, meterRegistry);
+            GeminiClient geminiClient = new GeminiClient(new RestTemplateBuilder(), meterRegistry,
+                    UpstreamGuard.of("gemini", new UpstreamGuard.Settings(10, 0, 20, 10, 50, 30000, 3),
+                            "unavailable", CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                            meterRegistry),
+                    RateLimiter.of("gemini", RateLimiterConfig.custom().limitForPeriod(1000).build()),
+                    "key", gemini.baseUri(), 1000, 15000);
+
+            HttpEntity<Map<String, String>> payRequest = new HttpEntity<>(Map.of("cid", "TC0ONETIME"));
+            run("checkout", CHECKOUT_THREADS, () -> {
+                kakaoPayClient.ready(payRequest);
+                kakaoPayClient.approve(payRequest);
+                kakaoPayClient.cancel(payRequest);
+            });
+            run("ai", AI_THREADS, () -> geminiClient.generateContent(Map.of("contents", Map.of())));
+
+            kakaoPayClient.destroy();
+        }
+    }
+
+    private void run(String name, int threads, Runnable flow) throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        flow.run();
+                        latencies.add(System.nanoTime() - start);
+                    } catch (UpstreamUnavailableException e) {
+                        rejected.incrementAndGet();
+                    } catch (HttpClientErrorException.TooManyRequests e) {
+                        throttled.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(DURATION_SECONDS + 30, TimeUnit.SECONDS);
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("[%s] %d threads, %ds: ok=%d (%.1f/s) rejected=%d throttled=%d failed=%d "
+                        + "p50=%.1fms p99=%.1fms%n",
+                name, threads, DURATION_SECONDS, sorted.size(), sorted.size() / (double) DURATION_SECONDS,
+                rejected.get(), throttled.get(), failed.get(), percentile(sorted, 0.5), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sparta.blackwhitedeliverydriver.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class UpstreamGuardTest {
+    private static final String PATH = "/payment/ready";
+    private static final String UNAVAILABLE = "unavailable";
+
+    FakeUpstreamServer upstream;
+    RestTemplate restTemplate = new RestTemplate();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstream = FakeUpstreamServer.start().respond(PATH, "{\"tid\":\"T1\"}");
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.close();
+    }
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 차단하고 이후 요청은 외부 API 호출 없이 바로 실패")
+    void circuitOpensOnFailures() {
+        //given
+        UpstreamGuard guard = guard(10, 0);
+        upstream.errorRate(1.0);
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpServerErrorException.class, () -> guard.call(this::callUpstream));
+        }
+        int requestsBeforeOpen = upstream.requestCount();
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, guard.state());
+        UpstreamUnavailableException exception = assertThrows(UpstreamUnavailableException.class,
+                () -> guard.call(this::callUpstream));
+        assertEquals(UNAVAILABLE, exception.getMessage());
+        assertEquals(requestsBeforeOpen, upstream.requestCount());
+        assertEquals(1.0, meterRegistry.get("upstream.circuit.transitions")
+                .tag("name", "test").tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 응답을 기다리지 않고 바로 실패")
+    void bulkheadRejectsOverLimit() throws Exception {
+        //given
+        UpstreamGuard guard = guard(2, 0);
+        upstream.latencyMs(300);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        //when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(executor.submit(() -> guard.call(this::callUpstream)));
+        }
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<String> future : futures) {
+            try {
+                future.get();
+                succeeded++;
+            } catch (Exception e) {
+                if (e.getCause() instanceof UpstreamUnavailableException) {
+                    rejected++;
+                }
+            }
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(2, succeeded);
+        assertEquals(3, rejected);
+        assertEquals(CircuitBreaker.State.CLOSED, guard.state());
+    }
+
+    private String callUpstream() {
+        return restTemplate.postForObject(upstream.baseUri() + PATH, "{}", String.class);
+    }
+
+    private UpstreamGuard guard(int maxConcurrentCalls, long maxWaitMs) {
+        UpstreamGuard.Settings settings = new UpstreamGuard.Settings(maxConcurrentCalls, maxWaitMs, 4, 4, 50, 60000, 1);
+        return UpstreamGuard.of("test", settings, UNAVAILABLE, CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(), meterRegistry);
+    }
+}
@@ -5,16 +5,21 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
 import com.sparta.blackwhitedeliverydriver.config.TestSecurityConfig;
+import com.sparta.blackwhitedeliverydriver.dto.CursorPageResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
@@ -37,6 +42,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -147,7 +153,8 @@ class OrderControllerTest {
                 .build();
 
         //when
-        when(orderService.getOrderDetail(any(), any())).thenReturn(response);
+        when(orderService.getOrderDetailResponse(any(), any())).thenReturn(
+                DetailResponseCache.Entry.of(mapper, "user", response));
 
         //then
         mvc.perform(get(BASE_URL + "/orders/{orderId}", response.getOrderId()))
@@ -168,7 +175,8 @@ class OrderControllerTest {
                 .build();
 
         //when
-        when(orderService.getOrderDetail(any(), any())).thenReturn(response);
+        when(orderService.getOrderDetailResponse(any(), any())).thenReturn(
+                DetailResponseCache.Entry.of(mapper, "user", response));
 
         //then
         mvc.perform(get(BASE_URL + "/orders/{orderId}", response.getOrderId()))
@@ -189,7 +197,8 @@ class OrderControllerTest {
                 .build();
 
         //when
-        when(orderService.getOrderDetail(any(), any())).thenReturn(response);
+        when(orderService.getOrderDetailResponse(any(), any())).thenReturn(
+                DetailResponseCache.Entry.of(mapper, "user", response));
 
         //then
         mvc.perform(get(BASE_URL + "/orders/{orderId}", response.getOrderId()))
@@ -198,6 +207,28 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.username").exists());
     }
 
+    @Test
+    @DisplayName("주문 상세 조회하기 : If-None-Match 가 ETag 와 같으면 304")
+    @MockUser(role = UserRoleEnum.CUSTOMER)
+    void getOrderDetail_notModified() throws Exception {
+        //given
+        OrderGetDetailResponseDto response = OrderGetDetailResponseDto.builder()
+                .orderId(UUID.randomUUID())
+                .username("user")
+                .finalPay(10000)
+                .build();
+        DetailResponseCache.Entry entry = DetailResponseCache.Entry.of(mapper, "user", response);
+
+        //when
+        when(orderService.getOrderDetailResponse(any(), any())).thenReturn(entry);
+
+        //then
+        mvc.perform(get(BASE_URL + "/orders/{orderId}", response.getOrderId())
+                        .header(HttpHeaders.IF_NONE_MATCH, entry.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, entry.etag()));
+    }
+
     @Test
     @DisplayName("주문 상세 조회하기 실패 : OWNER 일 때")
     @MockUser(role = UserRoleEnum.OWNER)
@@ -210,7 +241,8 @@ class OrderControllerTest {
                 .build();
 
         //when
-        when(orderService.getOrderDetail(any(), any())).thenReturn(response);
+        when(orderService.getOrderDetailResponse(any(), any())).thenReturn(
+                DetailResponseCache.Entry.of(mapper, "user", response));
 
         //then
         mvc.perform(get(BASE_URL + "/orders/{orderId}", response.getOrderId()))
@@ -314,6 +346,39 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.content").isArray());
     }
 
+    @Test
+    @DisplayName("주문 목록 커서 조회하기 성공 : cursor 파라미터가 있으면 커서 페이징")
+    @MockUser(role = UserRoleEnum.CUSTOMER)
+    void getOrdersByCursor_success() throws Exception {
+        // Given
+        OrderGetResponseDto response = OrderGetResponseDto.builder()
+                .orderId(UUID.randomUUID())
+                .username("user")
+                .finalPay(10000)
+                .build();
+
+        CursorPageResponseDto<OrderGetResponseDto> responsePage = CursorPageResponseDto.<OrderGetResponseDto>builder()
+                .content(List.of(response))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+
+        // When
+        when(orderService.getOrdersByCursor(anyString(), anyString(), anyInt(), anyBoolean()))
+                .thenReturn(responsePage);
+
+        // Then
+        mvc.perform(get(BASE_URL + "/orders")
+                        .param("cursor", "")
+                        .param("size", "10")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+        verify(orderService, never()).getOrders(anyString(), anyInt(), anyInt(), anyString(), anyBoolean());
+    }
+
     @Test
     @DisplayName("주문 목록 조회하기 실패 : OWNER 일 때")
     @MockUser(role = UserRoleEnum.OWNER)
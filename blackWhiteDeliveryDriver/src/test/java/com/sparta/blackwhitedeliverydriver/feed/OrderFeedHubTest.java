@@ -0,0 +1,117 @@
+package com.sparta.blackwhitedeliverydriver.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class OrderFeedHubTest {
+    UUID storeId = UUID.randomUUID();
+    ThreadPoolTaskExecutor executor;
+    OrderFeedHub orderFeedHub;
+    MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+        // 최근 이벤트는 2개까지만 보관
+        orderFeedHub = new OrderFeedHub(executor, new SimpleMeterRegistry(), 60000, 16, 2);
+        mvc = MockMvcBuilders.standaloneSetup(new FeedController()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 중인 점포의 주문 변경이 id 와 함께 전달되고, 재연결 시 Last-Event-ID 이후 이벤트만 다시 받음")
+    void publish_and_resume() throws Exception {
+        //given
+        MockHttpServletResponse first = subscribe(null);
+
+        //when
+        orderFeedHub.publish(storeId, OrderFeedHub.ORDER_EVENT, order(OrderStatusEnum.PENDING));
+        orderFeedHub.publish(storeId, OrderFeedHub.ORDER_EVENT, order(OrderStatusEnum.ACCEPTED));
+        MockHttpServletResponse resumed = subscribe(1L);
+
+        //then
+        String firstContent = awaitContent(first, "id:2");
+        assertTrue(firstContent.contains("id:1"));
+        String resumedContent = awaitContent(resumed, "id:2");
+        assertFalse(resumedContent.contains("id:1"));
+        assertTrue(resumedContent.contains("ACCEPTED"));
+        assertEquals(2, orderFeedHub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("보관 범위를 벗어난 Last-Event-ID 로 재연결하면 reset 이벤트를 받음")
+    void resume_reset() throws Exception {
+        //given
+        subscribe(null);
+        for (int i = 0; i < 3; i++) {
+            orderFeedHub.publish(storeId, OrderFeedHub.ORDER_EVENT, order(OrderStatusEnum.PENDING));
+        }
+
+        //when
+        MockHttpServletResponse resumed = subscribe(0L);
+
+        //then
+        String content = awaitContent(resumed, "event:" + OrderFeedHub.RESET_EVENT);
+        assertFalse(content.contains("id:"));
+    }
+
+    private MockHttpServletResponse subscribe(Long lastEventId) throws Exception {
+        var request = get("/feed");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mvc.perform(request).andReturn().getResponse();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            String content = response.getContentAsString();
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("SSE 응답에 " + expected + " 없음: " + response.getContentAsString());
+    }
+
+    private OrderGetResponseDto order(OrderStatusEnum status) {
+        return OrderGetResponseDto.builder()
+                .orderId(UUID.randomUUID())
+                .storeId(storeId)
+                .status(status)
+                .build();
+    }
+
+    @RestController
+    class FeedController {
+        @GetMapping("/feed")
+        SseEmitter feed(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+            return orderFeedHub.subscribe(storeId, lastEventId);
+        }
+    }
+}
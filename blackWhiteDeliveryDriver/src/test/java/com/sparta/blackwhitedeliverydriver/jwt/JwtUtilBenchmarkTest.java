@@ -0,0 +1,86 @@
+package com.sparta.blackwhitedeliverydriver.jwt;
+
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 요청 1건당 JWT 인증 비용 비교 (gradle benchmark 로 실행)
+// legacy: 변경 전 방식 (요청마다 파서 2개 생성 + 서명 검증 2회)
+// parseOnce: 미리 만든 파서로 1회 검증 (검증 캐시 미적중)
+// cached: 검증 캐시 적중
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class JwtUtilBenchmarkTest {
+    static final String SECRET_KEY = JwtUtilTest.SECRET_KEY;
+
+    Key key;
+    String token;
+    JwtUtil uncachedJwtUtil;
+    JwtUtil cachedJwtUtil;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        uncachedJwtUtil = createJwtUtil(0L);
+        cachedJwtUtil = createJwtUtil(10_000L);
+        token = cachedJwtUtil.createToken("user1", UserRoleEnum.CUSTOMER).substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    @Benchmark
+    public Claims legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return uncachedJwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return cachedJwtUtil.verifyToken(token);
+    }
+
+    @Test
+    @DisplayName("JWT 인증 비용: 변경 전 vs 파서 재사용 vs 검증 캐시")
+    void benchmark() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilBenchmarkTest.class.getName())
+                .build()).run();
+    }
+
+    private static JwtUtil createJwtUtil(long verifiedCacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", verifiedCacheMaxSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sparta.blackwhitedeliverydriver.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.exception.CustomJwtException;
+import com.sparta.blackwhitedeliverydriver.exception.JwtExceptionMessage;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilTest {
+    static final String SECRET_KEY = "c3ByaW5nLWJvb3Qtand0LXNlY3JldC1rZXktZm9yLXRlc3Qtb25seS0xMjM0NTY3ODkw";
+
+    JwtUtil jwtUtil;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 : 같은 토큰은 다시 검증하지 않고 캐시된 정보를 반환")
+    void verifyToken_success() {
+        //given
+        String token = jwtUtil.createToken("user1", UserRoleEnum.OWNER).substring(JwtUtil.BEARER_PREFIX.length());
+
+        //when
+        Claims claims = jwtUtil.verifyToken(token);
+        Claims cachedClaims = jwtUtil.verifyToken(token);
+
+        //then
+        assertEquals("user1", claims.getSubject());
+        assertEquals(UserRoleEnum.OWNER.name(), claims.get(JwtUtil.AUTHORIZATION_KEY, String.class));
+        assertSame(claims, cachedClaims);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 : 서명이 변조된 경우")
+    void verifyToken_fail_invalidSignature() {
+        //given
+        String token = jwtUtil.createToken("user1", UserRoleEnum.CUSTOMER).substring(JwtUtil.BEARER_PREFIX.length());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        //when & then
+        Exception exception = assertThrows(CustomJwtException.class, () -> jwtUtil.verifyToken(tampered));
+        assertEquals(JwtExceptionMessage.INVALID_SIGNATURE.getMessage(), exception.getMessage());
+    }
+}
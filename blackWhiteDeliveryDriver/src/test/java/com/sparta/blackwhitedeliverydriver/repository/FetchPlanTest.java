@@ -0,0 +1,181 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.blackwhitedeliverydriver.config.JpaConfig;
+import com.sparta.blackwhitedeliverydriver.dto.BasketGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayGetDetailResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Basket;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+import java.time.LocalTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+// 목록/상세 조회가 응답에 필요한 연관만 정해진 쿼리 수로 가져오는지 확인 (내장 H2 DB 사용)
+@DataJpaTest
+@Import(JpaConfig.class)
+@TestPropertySource(properties = {"spring.profiles.active=test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class FetchPlanTest {
+    static final int ROWS = 3;
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    BasketRepository basketRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderProductRepository orderProductRepository;
+    @Autowired
+    PayRepository payRepository;
+
+    User customer;
+    Store store;
+    Pay pay;
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(user("owner", UserRoleEnum.OWNER));
+        customer = userRepository.save(user("customer", UserRoleEnum.CUSTOMER));
+        store = storeRepository.save(store(owner));
+        Order order = null;
+        for (int i = 0; i < ROWS; i++) {
+            Product product = productRepository.save(product("product" + i));
+            basketRepository.save(Basket.builder().user(customer).store(store).product(product).quantity(1).build());
+            order = orderRepository.save(Order.ofUserAndStore(customer, store, OrderTypeEnum.ONLINE));
+            orderProductRepository.save(OrderProduct.builder().order(order).product(product).quantity(1)
+                    .price(product.getPrice()).build());
+        }
+        pay = payRepository.save(Pay.approving(order, "tid"));
+
+        // 영속성 컨텍스트를 비워 실제 조회 쿼리만 집계
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("장바구니 목록 - 점포, 상품까지 쿼리 1번으로 조회")
+    void basketPage() {
+        //when
+        List<BasketGetResponseDto> baskets = basketRepository.findAllByUserAndNotDeleted(customer,
+                PageRequest.of(0, 10)).map(BasketGetResponseDto::fromBasket).getContent();
+
+        //then
+        assertEquals(ROWS, baskets.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("주문 목록 - 응답 DTO 로 바로 조회, 유저/점포 추가 조회 없이 쿼리 1번")
+    void orderPage() {
+        //when
+        List<OrderGetResponseDto> orders = orderRepository.findAllByStoreAndNotDeleted(store, PageRequest.of(0, 10))
+                .getContent();
+
+        //then
+        assertEquals(ROWS, orders.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("주문 상세 - 주문과 주문 상품의 상품을 쿼리 1번으로 조회")
+    void orderDetail() {
+        //when
+        List<OrderDetailRowDto> rows = orderRepository.findDetailRowsById(pay.getOrder().getId());
+        OrderGetDetailResponseDto detail = OrderGetDetailResponseDto.of(rows.get(0).getOrder(),
+                OrderDetailRowDto.products(rows));
+
+        //then
+        assertEquals(store.getStoreId(), detail.getStoreId());
+        assertEquals(customer.getUsername(), detail.getUsername());
+        assertEquals(1, detail.getProducts().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("결제 상세 - 결제, 주문, 주문 상품의 상품을 쿼리 1번으로 조회")
+    void payDetail() {
+        //when
+        List<OrderDetailRowDto> rows = payRepository.findDetailRowsById(pay.getId());
+        PayGetDetailResponseDto detail = PayGetDetailResponseDto.ofPayAndProducts(rows.get(0).getPay(),
+                OrderDetailRowDto.products(rows));
+
+        //then
+        assertEquals(pay.getId(), detail.getPayId());
+        assertEquals(1, detail.getOrder().getProducts().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static User user(String username, UserRoleEnum role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .phoneNumber(username)
+                .role(role)
+                .publicProfile(true)
+                .build();
+    }
+
+    private static Store store(User owner) {
+        return Store.builder()
+                .storeName("store")
+                .phoneNumber("010")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .rating(0)
+                .reviewCnt(0)
+                .zipNum("00000")
+                .city("city")
+                .district("district")
+                .streetName("street")
+                .streetNumber("1")
+                .detailAddr("detail")
+                .storeIntro("intro")
+                .isPublic(true)
+                .user(owner)
+                .build();
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .price(5000)
+                .isPublic(true)
+                .imgUrl("img")
+                .productIntro("intro")
+                .store(store)
+                .build();
+    }
+}
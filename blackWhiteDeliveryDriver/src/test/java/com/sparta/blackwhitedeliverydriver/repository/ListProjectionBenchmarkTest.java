@@ -0,0 +1,164 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.blackwhitedeliverydriver.config.JpaConfig;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.Review;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import java.lang.management.ManagementFactory;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 목록 조회 1회당 할당량: 엔티티 조회 후 DTO 변환 vs DTO 프로젝션 조회 (내장 H2 DB 사용)
+// gradle benchmark 로 실행 (기본 test 태스크에서는 제외)
+@Tag("benchmark")
+@DataJpaTest
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"spring.profiles.active=test", "spring.jpa.show-sql=false"})
+class ListProjectionBenchmarkTest {
+    static final int PAGE_SIZE = 50;
+    static final int ROWS = PAGE_SIZE * 2;
+    static final int WARMUP_ROUNDS = 200;
+    static final int MEASURE_ROUNDS = 1000;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    PayRepository payRepository;
+    @Autowired
+    ReviewRepository reviewRepository;
+
+    @Test
+    @DisplayName("주문/결제/리뷰 목록 50건: 엔티티 조회 vs DTO 프로젝션 요청당 할당량")
+    void benchmark() {
+        //given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User customer = userRepository.save(user("customer", UserRoleEnum.CUSTOMER));
+        Store store = storeRepository.save(store(userRepository.save(user("owner", UserRoleEnum.OWNER))));
+        for (int i = 0; i < ROWS; i++) {
+            Order order = orderRepository.save(Order.ofUserAndStore(customer, store, OrderTypeEnum.ONLINE));
+            payRepository.save(Pay.approving(order, "tid" + i));
+            reviewRepository.save(new Review(order, "contents" + i, 5));
+        }
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdDate"));
+
+        //when
+        // 두 방식 모두 Spring Data 페이지 조회 (내용 + COUNT 쿼리), 엔티티 쪽은 커서 조회와 같은 조건의 Specification 사용
+        Supplier<List<OrderGetResponseDto>> orderEntities = () -> orderRepository
+                .findAll(CursorSpecifications.ordersOfUser(customer), pageable)
+                .map(OrderGetResponseDto::fromOrder).getContent();
+        Supplier<List<OrderGetResponseDto>> orderProjection = () ->
+                orderRepository.findAllByUserAndNotDeleted(customer, pageable).getContent();
+        Supplier<List<PayGetResponseDto>> payEntities = () -> payRepository
+                .findAll(CursorSpecifications.paysOfUser(customer), pageable)
+                .map(PayGetResponseDto::fromPay).getContent();
+        Supplier<List<PayGetResponseDto>> payProjection = () ->
+                payRepository.findAllByUser(customer, pageable).getContent();
+        Supplier<List<ReviewResponseDto>> reviewEntities = () -> reviewRepository
+                .findAll(CursorSpecifications.reviewsOfStore(store.getStoreId()), pageable)
+                .map(ReviewResponseDto::from).getContent();
+        Supplier<List<ReviewResponseDto>> reviewProjection = () -> reviewRepository
+                .findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull(store.getStoreId(), pageable)
+                .getContent();
+
+        //then
+        report("order ", transactionTemplate, orderEntities, orderProjection);
+        report("pay   ", transactionTemplate, payEntities, payProjection);
+        report("review", transactionTemplate, reviewEntities, reviewProjection);
+    }
+
+    private static void report(String name, TransactionTemplate transactionTemplate, Supplier<? extends List<?>> entities,
+                               Supplier<? extends List<?>> projection) {
+        assertEquals(PAGE_SIZE, transactionTemplate.execute(status -> entities.get()).size());
+        assertEquals(PAGE_SIZE, transactionTemplate.execute(status -> projection.get()).size());
+
+        Result entityResult = measure(transactionTemplate, entities);
+        Result projectionResult = measure(transactionTemplate, projection);
+        System.out.printf("%s entity    : %.1f KB/request, %.1f us/request%n", name,
+                entityResult.bytes() / 1024.0, entityResult.nanos() / 1_000.0);
+        System.out.printf("%s projection: %.1f KB/request, %.1f us/request%n", name,
+                projectionResult.bytes() / 1024.0, projectionResult.nanos() / 1_000.0);
+    }
+
+    // 요청 1회 = 트랜잭션 1개 (커밋 시 flush 의 변경 감지 비용 포함), 워밍업 후 측정 라운드 평균
+    private static Result measure(TransactionTemplate transactionTemplate, Supplier<? extends List<?>> supplier) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            transactionTemplate.execute(status -> supplier.get());
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            transactionTemplate.execute(status -> supplier.get());
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result(bytes / MEASURE_ROUNDS, nanos / MEASURE_ROUNDS);
+    }
+
+    private static User user(String username, UserRoleEnum role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .phoneNumber(username)
+                .role(role)
+                .publicProfile(true)
+                .build();
+    }
+
+    private static Store store(User owner) {
+        return Store.builder()
+                .storeName("store")
+                .phoneNumber("010")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .rating(0)
+                .reviewCnt(0)
+                .zipNum("00000")
+                .city("city")
+                .district("district")
+                .streetName("street")
+                .streetNumber("1")
+                .detailAddr("detail")
+                .storeIntro("intro")
+                .isPublic(true)
+                .user(owner)
+                .build();
+    }
+
+    private record Result(long bytes, long nanos) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+// 기존 스키마의 p_pay 에 결제 상태 검사 제약 변경 스크립트를 적용하면 모든 PayStatusEnum 값을 저장할 수 있는지 확인
+// (내장 H2 DB 를 PostgreSQL 모드로 사용)
+class PayStatusMigrationTest {
+
+    DriverManagerDataSource dataSource;
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/baseline/p_pay.sql")).execute(dataSource);
+    }
+
+    @Test
+    @DisplayName("스크립트 적용 전 - 기존 제약은 결제 승인 중(APPROVING) 상태를 거부")
+    void baseline_rejectsApproving() {
+        assertThrows(DataIntegrityViolationException.class, () -> insert(PayStatusEnum.APPROVING.name()));
+    }
+
+    @Test
+    @DisplayName("스크립트 적용 후 - 모든 결제 상태 저장 가능, 그 외 값은 거부, 복구용 인덱스 생성")
+    void migrated_acceptsAllStatuses() {
+        //given
+        insert(PayStatusEnum.SUCCESS.name());
+
+        //when
+        ResourceDatabasePopulator migration = new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/002_pay_status_check.sql"));
+        migration.execute(dataSource);
+        // 다시 실행해도 실패하지 않음
+        migration.execute(dataSource);
+
+        //then
+        for (PayStatusEnum payStatus : PayStatusEnum.values()) {
+            insert(payStatus.name());
+        }
+        assertThrows(DataIntegrityViolationException.class, () -> insert("UNKNOWN"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = 'IDX_PAY_STATUS_MODIFIED'",
+                Integer.class));
+    }
+
+    private void insert(String payStatus) {
+        jdbcTemplate.update("INSERT INTO p_pay (id, tid, item_name, pay_status, pay_amount) VALUES (?, ?, ?, ?, ?)",
+                UUID.randomUUID(), "tid", "item", payStatus, 1000);
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.blackwhitedeliverydriver.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sparta.blackwhitedeliverydriver.dto.StoreNameDto;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// 점포 10만 건 기준 이름 색인 조회와 전체 이름 순차 비교(LIKE '%이름%' 의 순차 스캔과 같은 방식) 비교
+// gradle benchmark 로 실행 (기본 test 태스크에서는 제외)
+@Tag("benchmark")
+class StoreNameIndexBenchmarkTest {
+    static final int STORE_COUNT = 100_000;
+    static final int QUERY_COUNT = 200;
+    static final int WARMUP_ROUNDS = 5;
+    static final int MEASURE_ROUNDS = 20;
+
+    // 상호에 쓰이는 음절 수를 대략 맞추기 위해 한글 음절 중 400개를 고정 시드로 뽑아서 사용
+    static final int SYLLABLE_COUNT = 400;
+    static final String[] MENUS = {"치킨", "피자", "족발", "보쌈", "분식", "중식", "한식", "카페", "버거", "초밥"};
+    static final String[] BRANCHES = {"강남점", "역삼점", "홍대점", "신촌점", "잠실점", "판교점", "수원점", "부산점"};
+
+    @Test
+    @DisplayName("점포 10만 건 이름 검색: 색인 조회 vs 순차 비교")
+    void benchmark() {
+        //given
+        Random random = new Random(42);
+        char[] syllables = new char[SYLLABLE_COUNT];
+        for (int i = 0; i < SYLLABLE_COUNT; i++) {
+            syllables[i] = (char) ('가' + random.nextInt('힣' - '가' + 1));
+        }
+        List<StoreNameDto> storeNames = new ArrayList<>();
+        for (int i = 0; i < STORE_COUNT; i++) {
+            storeNames.add(new StoreNameDto(UUID.randomUUID(), randomName(random, syllables, i)));
+        }
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        given(storeRepository.findAllStoreNames()).willReturn(storeNames);
+        StoreNameIndex storeNameIndex = new StoreNameIndex(storeRepository, new SimpleMeterRegistry());
+
+        long usedBefore = usedMemory();
+        long loadStart = System.nanoTime();
+        storeNameIndex.load();
+        long loadNanos = System.nanoTime() - loadStart;
+        long usedAfter = usedMemory();
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String name = storeNames.get(random.nextInt(STORE_COUNT)).getStoreName();
+            int length = 2 + random.nextInt(3);
+            int start = random.nextInt(Math.max(1, name.length() - length));
+            queries.add(name.substring(start, Math.min(name.length(), start + length)));
+        }
+
+        // 색인 결과가 순차 비교 결과와 같은지 먼저 확인 (색인으로 좁히지 못한 검색어는 LIKE 조회 대상)
+        List<String> indexedQueries = new ArrayList<>();
+        for (String query : queries) {
+            Optional<Set<UUID>> storeIds = storeNameIndex.findStoreIds(query);
+            if (storeIds.isPresent()) {
+                assertEquals(scan(storeNames, query), storeIds.get(), query);
+                indexedQueries.add(query);
+            }
+        }
+
+        //when
+        long allNanos = measure(() -> queries.forEach(storeNameIndex::findStoreIds));
+        long indexNanos = measure(() -> indexedQueries.forEach(storeNameIndex::findStoreIds));
+        long scanNanos = measure(() -> indexedQueries.forEach(query -> scan(storeNames, query)));
+
+        //then
+        System.out.printf("stores=%d, queries=%d (indexed=%d, fallback=%d)%n",
+                STORE_COUNT, QUERY_COUNT, indexedQueries.size(), QUERY_COUNT - indexedQueries.size());
+        System.out.printf("index load: %.1f ms, approx heap: %.1f MB%n",
+                loadNanos / 1_000_000.0, (usedAfter - usedBefore) / 1024.0 / 1024.0);
+        System.out.printf("all queries (incl. fallback decision): %.1f us/query%n", allNanos / 1_000.0 / QUERY_COUNT);
+        System.out.printf("indexed queries - index lookup: %.1f us/query%n",
+                indexNanos / 1_000.0 / indexedQueries.size());
+        System.out.printf("indexed queries - linear scan : %.1f us/query%n",
+                scanNanos / 1_000.0 / indexedQueries.size());
+    }
+
+    private static String randomName(Random random, char[] syllables, int seq) {
+        StringBuilder name = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            name.append(syllables[random.nextInt(syllables.length)]);
+        }
+        name.append(MENUS[random.nextInt(MENUS.length)]);
+        name.append(' ').append(BRANCHES[random.nextInt(BRANCHES.length)]).append(seq);
+        return name.toString();
+    }
+
+    private static Set<UUID> scan(List<StoreNameDto> storeNames, String query) {
+        Set<UUID> storeIds = new HashSet<>();
+        for (StoreNameDto storeName : storeNames) {
+            if (storeName.getStoreName().contains(query)) {
+                storeIds.add(storeName.getStoreId());
+            }
+        }
+        return storeIds;
+    }
+
+    // 워밍업 후 측정 라운드의 최솟값 (GC 등 잡음 제외)
+    private static long measure(Runnable runnable) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runnable.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            runnable.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static long usedMemory() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sparta.blackwhitedeliverydriver.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sparta.blackwhitedeliverydriver.dto.StoreNameDto;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreNameIndexTest {
+    StoreNameIndex storeNameIndex;
+
+    StoreRepository storeRepository = mock(StoreRepository.class);
+    UUID chickenId = UUID.randomUUID();
+    UUID pizzaId = UUID.randomUUID();
+    UUID chickenPizzaId = UUID.randomUUID();
+
+    @BeforeEach
+    public void setUp() {
+        given(storeRepository.findAllStoreNames()).willReturn(List.of(
+                new StoreNameDto(chickenId, "흑백치킨 강남점"),
+                new StoreNameDto(pizzaId, "흑백피자"),
+                new StoreNameDto(chickenPizzaId, "치킨앤피자")));
+        storeNameIndex = new StoreNameIndex(storeRepository, new SimpleMeterRegistry());
+        storeNameIndex.load();
+    }
+
+    @Test
+    @DisplayName("이름 조각이 포함된 점포 id 만 반환")
+    void findStoreIds_success() {
+        //when
+        Set<UUID> chicken = storeNameIndex.findStoreIds("치킨").orElseThrow();
+        Set<UUID> blackWhite = storeNameIndex.findStoreIds("흑백").orElseThrow();
+        Set<UUID> singleChar = storeNameIndex.findStoreIds("피").orElseThrow();
+        // 일치하는 점포가 없으면 다른 인스턴스에서 추가된 이름일 수 있으므로 LIKE 조회로 넘김
+        Optional<Set<UUID>> none = storeNameIndex.findStoreIds("족발");
+
+        //then
+        assertEquals(Set.of(chickenId, chickenPizzaId), chicken);
+        assertEquals(Set.of(chickenId, pizzaId), blackWhite);
+        assertEquals(Set.of(pizzaId, chickenPizzaId), singleChar);
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    @DisplayName("gram 이 모두 있어도 연속된 문자열이 아니면 제외")
+    void findStoreIds_checksContiguousName() {
+        //when
+        // "흑백치킨 강남점" 은 "흑백", "백치" 를 모두 갖지만 "흑백백치" 는 포함하지 않음
+        Optional<Set<UUID>> storeIds = storeNameIndex.findStoreIds("흑백백치");
+
+        //then
+        assertTrue(storeIds.isEmpty());
+    }
+
+    @Test
+    @DisplayName("점포 이름이 바뀌면 이전 이름으로는 검색되지 않음")
+    void put_rename() {
+        //when
+        storeNameIndex.put(pizzaId, "백년족발");
+
+        //then
+        assertEquals(Set.of(chickenId), storeNameIndex.findStoreIds("흑백").orElseThrow());
+        assertEquals(Set.of(pizzaId), storeNameIndex.findStoreIds("족발").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("빈 검색어나 일치 건수가 너무 많으면 LIKE 조회로 넘김")
+    void findStoreIds_fallback() {
+        //given
+        List<StoreNameDto> storeNames = new ArrayList<>();
+        for (int i = 0; i <= StoreNameIndex.MAX_MATCHES; i++) {
+            storeNames.add(new StoreNameDto(UUID.randomUUID(), "분식 " + i));
+        }
+        given(storeRepository.findAllStoreNames()).willReturn(storeNames);
+        storeNameIndex.reload();
+
+        //when & then
+        assertTrue(storeNameIndex.findStoreIds("").isEmpty());
+        assertTrue(storeNameIndex.findStoreIds("분식").isEmpty());
+        assertEquals(1, storeNameIndex.findStoreIds("분식 1000").orElseThrow().size());
+    }
+}
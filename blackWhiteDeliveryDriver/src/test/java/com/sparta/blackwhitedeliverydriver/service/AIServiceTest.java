@@ -0,0 +1,131 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.cache.AIResponseCache;
+import com.sparta.blackwhitedeliverydriver.client.GeminiClient;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchItemRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.AIBatchResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.repository.AIRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class AIServiceTest {
+    static final String SUFFIX = ", 답변을 최대한 간결하게 50자 이하로";
+
+    AIService aiService;
+    AIResponseCache aiResponseCache;
+
+    GeminiClient geminiClient = mock(GeminiClient.class);
+    AIRepository aiRepository = mock(AIRepository.class);
+    UserRepository userRepository = mock(UserRepository.class);
+    StoreRepository storeRepository = mock(StoreRepository.class);
+    ProductRepository productRepository = mock(ProductRepository.class);
+
+    User owner = User.builder().username("owner").build();
+    Store store = Store.builder().storeId(UUID.randomUUID()).user(owner).build();
+
+    @BeforeEach
+    void setUp() {
+        aiResponseCache = new AIResponseCache(aiRepository, new SimpleMeterRegistry(), 100, 60, false, 0);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        aiService = new AIService(geminiClient, aiResponseCache, aiRepository, userRepository, storeRepository,
+                productRepository, transactionTemplate, mock(ThreadPoolTaskExecutor.class), 60000, 2);
+        given(storeRepository.findById(store.getStoreId())).willReturn(Optional.of(store));
+        given(userRepository.getReferenceById("owner")).willReturn(owner);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - 캐시에 없는 질문만 묶어서 요청하고 답변을 음식 소개에 반영")
+    void recommendProductIntros_packsPrompts() {
+        //given
+        aiResponseCache.put("치킨", SUFFIX, "바삭한 치킨");
+        Product pizza = Product.builder().productId(UUID.randomUUID()).store(store).productIntro("").build();
+        given(productRepository.findAllByProductIdInAndStoreStoreId(anyCollection(), eq(store.getStoreId())))
+                .willReturn(List.of(pizza));
+        given(productRepository.findAllById(anyIterable())).willReturn(List.of(pizza));
+        given(geminiClient.generateContent(any())).willReturn(geminiResponse(new JSONArray(List.of("쫄깃한 피자", "시원한 콜라")).toString()));
+
+        AIBatchRequestDto requestDto = new AIBatchRequestDto();
+        requestDto.setStoreId(store.getStoreId());
+        requestDto.setApplyToProducts(true);
+        requestDto.setItems(List.of(item(null, "치킨"), item(pizza.getProductId(), "피자"), item(null, "콜라")));
+
+        //when
+        AIBatchResponseDto responseDto = aiService.recommendProductIntros(requestDto, owner);
+
+        //then
+        verify(geminiClient, times(1)).generateContent(any());
+        assertEquals(List.of("바삭한 치킨", "쫄깃한 피자", "시원한 콜라"),
+                responseDto.getItems().stream().map(item -> item.getAnswer()).toList());
+        assertEquals("쫄깃한 피자", pizza.getProductIntro());
+        assertEquals(Optional.of("시원한 콜라"), aiResponseCache.getIfPresent("콜라", SUFFIX));
+        verify(aiRepository).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("일괄 생성 - 20개 묶음의 응답 개수가 맞지 않으면 반씩 나눠 다시 요청 (분당 호출 제한 이내)")
+    void recommendProductIntros_countMismatch() {
+        //given
+        aiService = new AIService(geminiClient, aiResponseCache, aiRepository, userRepository, storeRepository,
+                productRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(ThreadPoolTaskExecutor.class), 60000, 20);
+        List<String> prompts = IntStream.range(0, 20).mapToObj(i -> "메뉴" + i).toList();
+        List<String> intros = IntStream.range(0, 20).mapToObj(i -> "소개" + i).toList();
+        given(geminiClient.generateContent(any())).willReturn(
+                geminiResponse(new JSONArray(intros.subList(0, 19)).toString()),
+                geminiResponse(new JSONArray(intros.subList(0, 10)).toString()),
+                geminiResponse(new JSONArray(intros.subList(10, 20)).toString()));
+
+        AIBatchRequestDto requestDto = new AIBatchRequestDto();
+        requestDto.setStoreId(store.getStoreId());
+        requestDto.setItems(prompts.stream().map(prompt -> item(null, prompt)).toList());
+
+        //when
+        AIBatchResponseDto responseDto = aiService.recommendProductIntros(requestDto, owner);
+
+        //then
+        verify(geminiClient, times(3)).generateContent(any());
+        assertEquals(intros, responseDto.getItems().stream().map(item -> item.getAnswer()).toList());
+        assertEquals(Optional.of("소개19"), aiResponseCache.getIfPresent("메뉴19", SUFFIX));
+    }
+
+    private static AIBatchItemRequestDto item(UUID productId, String prompt) {
+        AIBatchItemRequestDto item = new AIBatchItemRequestDto();
+        item.setProductId(productId);
+        item.setPrompt(prompt);
+        return item;
+    }
+
+    private static String geminiResponse(String text) {
+        JSONObject part = new JSONObject().put("text", text);
+        JSONObject content = new JSONObject().put("parts", new JSONArray().put(part));
+        return new JSONObject().put("candidates", new JSONArray().put(new JSONObject().put("content", content))).toString();
+    }
+}
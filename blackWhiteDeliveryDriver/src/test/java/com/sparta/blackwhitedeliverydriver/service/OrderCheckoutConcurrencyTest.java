@@ -0,0 +1,166 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
+import com.sparta.blackwhitedeliverydriver.cache.UserCache;
+import com.sparta.blackwhitedeliverydriver.config.JpaConfig;
+import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
+import com.sparta.blackwhitedeliverydriver.entity.Basket;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.feed.OrderFeedHub;
+import com.sparta.blackwhitedeliverydriver.repository.BasketRepository;
+import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 같은 유저가 동시에 주문을 생성해도 주문은 1건만 만들어지는지 확인 (내장 H2 DB 사용)
+@DataJpaTest
+@Import({OrderService.class, OrderStateMachine.class, JpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.profiles.active=test")
+class OrderCheckoutConcurrencyTest {
+    static final int THREADS = 8;
+
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    BasketRepository basketRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderProductRepository orderProductRepository;
+
+    @MockBean
+    PayService payService;
+    @MockBean
+    StoreNameIndex storeNameIndex;
+    @MockBean
+    UserCache userCache;
+    @MockBean
+    OrderFeedHub orderFeedHub;
+    @MockBean
+    DetailResponseCache detailResponseCache;
+
+    @Test
+    @DisplayName("같은 유저의 동시 주문 생성 - 주문 1건만 생성되고 나머지는 실패")
+    void createOrder_concurrent() throws Exception {
+        //given
+        User owner = userRepository.save(user("owner", UserRoleEnum.OWNER));
+        User customer = userRepository.save(user("customer", UserRoleEnum.CUSTOMER));
+        Store store = storeRepository.save(store(owner));
+        Product product = productRepository.save(Product.builder()
+                .name("product")
+                .price(5000)
+                .isPublic(true)
+                .imgUrl("img")
+                .productIntro("intro")
+                .store(store)
+                .build());
+        basketRepository.saveAll(List.of(basket(customer, store, product, 1), basket(customer, store, product, 2)));
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return orderService.createOrder("customer", new OrderAddRequestDto(OrderTypeEnum.ONLINE));
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<?> result : results) {
+            try {
+                result.get();
+                succeeded++;
+            } catch (Exception e) {
+                if (e.getCause() instanceof IllegalArgumentException) {
+                    rejected++;
+                }
+            }
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(1, succeeded);
+        assertEquals(THREADS - 1, rejected);
+        assertEquals(1, orderRepository.findAllByUser(customer).size());
+        assertEquals(2, orderProductRepository.count());
+        assertEquals(15000, orderRepository.findAllByUser(customer).get(0).getFinalPay());
+        assertEquals(0, basketRepository.findAllByUserAndNotDeleted(customer).size());
+    }
+
+    private static User user(String username, UserRoleEnum role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .phoneNumber(username)
+                .role(role)
+                .publicProfile(true)
+                .build();
+    }
+
+    private static Store store(User owner) {
+        return Store.builder()
+                .storeName("store")
+                .phoneNumber("010")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .rating(0)
+                .reviewCnt(0)
+                .zipNum("00000")
+                .city("city")
+                .district("district")
+                .streetName("street")
+                .streetNumber("1")
+                .detailAddr("detail")
+                .storeIntro("intro")
+                .isPublic(true)
+                .user(owner)
+                .build();
+    }
+
+    private static Basket basket(User user, Store store, Product product, int quantity) {
+        return Basket.builder()
+                .user(user)
+                .store(store)
+                .product(product)
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -3,12 +3,19 @@ package com.sparta.blackwhitedeliverydriver.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
+import com.sparta.blackwhitedeliverydriver.cache.UserCache;
 import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderDetailRowDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderResponseDto;
@@ -24,11 +31,15 @@ import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.OrderStatusConflictException;
+import com.sparta.blackwhitedeliverydriver.feed.OrderFeedHub;
 import com.sparta.blackwhitedeliverydriver.repository.BasketRepository;
 import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +48,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class OrderServiceTest {
     OrderService orderService;
@@ -46,12 +58,17 @@ class OrderServiceTest {
     OrderProductRepository orderProductRepository = mock(OrderProductRepository.class);
     UserRepository userRepository = mock(UserRepository.class);
     StoreRepository storeRepository = mock(StoreRepository.class);
+    StoreNameIndex storeNameIndex = mock(StoreNameIndex.class);
+    UserCache userCache = new UserCache(userRepository, new SimpleMeterRegistry(), 100, 60);
     PayService payService = mock(PayService.class);
+    DetailResponseCache detailResponseCache = new DetailResponseCache(new ObjectMapper(), new SimpleMeterRegistry(),
+            100);
 
     @BeforeEach
     public void setUp() {
         orderService = new OrderService(basketRepository, orderRepository, orderProductRepository, userRepository,
-                storeRepository, payService);
+                storeRepository, storeNameIndex, userCache, new OrderStateMachine(orderRepository, mock(OrderFeedHub.class)),
+                mock(OrderFeedHub.class), detailResponseCache, payService);
     }
 
     @Test
@@ -102,18 +119,20 @@ class OrderServiceTest {
                 .build();
         OrderAddRequestDto request = new OrderAddRequestDto(OrderTypeEnum.ONLINE);
 
-        given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
-        given(basketRepository.findAllByUserAndNotDeleted(any())).willReturn(List.of(basket));
-        given(orderRepository.save(any())).willReturn(order);
+        given(userRepository.findByUsernameForUpdate(any())).willReturn(Optional.ofNullable(user));
+        given(basketRepository.findAllWithProductByUserAndNotDeleted(any())).willReturn(List.of(basket));
+        ArgumentCaptor<Order> savedOrder = ArgumentCaptor.forClass(Order.class);
+        given(orderRepository.save(savedOrder.capture())).willReturn(order);
         when(orderProductRepository.saveAll(any())).thenReturn(List.of(orderProduct));
-        doNothing().when(basketRepository).deleteAll(any());
 
         //when
         OrderResponseDto response = orderService.createOrder(username, request);
 
         //then
-        Assertions.assertEquals(10000, order.getFinalPay());
+        Assertions.assertEquals(10000, savedOrder.getValue().getFinalPay());
         Assertions.assertEquals(orderId, response.getOrderId());
+        verify(orderRepository, times(1)).save(any());
+        verify(basketRepository).softDeleteAllByIdIn(eq(List.of(basketId)), eq(username), any());
     }
 
     @Test
@@ -123,7 +142,7 @@ class OrderServiceTest {
         String username = "user1";
         OrderAddRequestDto request = new OrderAddRequestDto(OrderTypeEnum.ONLINE);
 
-        when(userRepository.findById(any())).thenReturn(Optional.empty());
+        when(userRepository.findByUsernameForUpdate(any())).thenReturn(Optional.empty());
 
         //when & then
         assertThrows(NullPointerException.class, () -> orderService.createOrder(username, request));
@@ -141,8 +160,8 @@ class OrderServiceTest {
         List<Basket> baskets = new ArrayList<>();
         OrderAddRequestDto request = new OrderAddRequestDto(OrderTypeEnum.ONLINE);
 
-        given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
-        when(basketRepository.findAllById(any())).thenReturn(baskets);
+        given(userRepository.findByUsernameForUpdate(any())).willReturn(Optional.ofNullable(user));
+        when(basketRepository.findAllWithProductByUserAndNotDeleted(any())).thenReturn(baskets);
 
         //when & then
         assertThrows(IllegalArgumentException.class, () -> orderService.createOrder(username, request));
@@ -175,7 +194,7 @@ class OrderServiceTest {
                 .build();
 
         given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
-        given(orderRepository.findById(any())).willReturn(Optional.ofNullable(order));
+        given(orderRepository.findDetailRowsById(any())).willReturn(List.of(new OrderDetailRowDto(order, null)));
 
         //when
         OrderGetDetailResponseDto response = orderService.getOrderDetail(username, orderId);
@@ -187,6 +206,51 @@ class OrderServiceTest {
         assertEquals(order.getFinalPay(), response.getFinalPay());
     }
 
+    @Test
+    @DisplayName("주문 상세 응답 조회 : 완료된 주문은 처음 조회 후 캐시에서 같은 ETag 로 응답")
+    void getOrderDetailResponse_cached() {
+        //given
+        User user = User.builder()
+                .username("user1")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        Order order = completedOrder(user);
+        given(userRepository.findById(any())).willReturn(Optional.of(user));
+        given(orderRepository.findDetailRowsById(any())).willReturn(List.of(new OrderDetailRowDto(order, null)));
+
+        //when
+        DetailResponseCache.Entry first = orderService.getOrderDetailResponse("user1", order.getId());
+        DetailResponseCache.Entry second = orderService.getOrderDetailResponse("user1", order.getId());
+
+        //then
+        assertEquals(first.etag(), second.etag());
+        verify(orderRepository, times(1)).findDetailRowsById(order.getId());
+    }
+
+    @Test
+    @DisplayName("주문 상세 응답 조회 실패 : 캐시된 주문이라도 다른 CUSTOMER의 주문인 경우")
+    void getOrderDetailResponse_cached_fail() {
+        //given
+        User user = User.builder()
+                .username("user1")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        User user2 = User.builder()
+                .username("user2")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        Order order = completedOrder(user);
+        given(userRepository.findById("user1")).willReturn(Optional.of(user));
+        given(userRepository.findById("user2")).willReturn(Optional.of(user2));
+        given(orderRepository.findDetailRowsById(any())).willReturn(List.of(new OrderDetailRowDto(order, null)));
+        orderService.getOrderDetailResponse("user1", order.getId());
+
+        //when & then
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.getOrderDetailResponse("user2", order.getId()));
+        assertEquals(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage(), exception.getMessage());
+    }
+
     @Test
     @DisplayName("주문 상세 조회 실패1 : 유저가 없는 경우")
     void getOrderDetail_fail1() {
@@ -215,7 +279,7 @@ class OrderServiceTest {
 
         given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
 
-        when(orderRepository.findById(any())).thenReturn(Optional.empty());
+        when(orderRepository.findDetailRowsById(any())).thenReturn(List.of());
 
         // when & then
         Exception exception = assertThrows(NullPointerException.class,
@@ -256,7 +320,7 @@ class OrderServiceTest {
                 .build();
 
         given(userRepository.findById(any())).willReturn(Optional.ofNullable(user2));
-        given(orderRepository.findById(any())).willReturn(Optional.ofNullable(order));
+        given(orderRepository.findDetailRowsById(any())).willReturn(List.of(new OrderDetailRowDto(order, null)));
 
         // when & then
         Exception exception = assertThrows(IllegalArgumentException.class,
@@ -295,6 +359,7 @@ class OrderServiceTest {
 
         given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
         given(orderRepository.findById(any())).willReturn(Optional.ofNullable(order));
+        given(orderRepository.updateStatusIfIn(eq(orderId), any(), eq(OrderStatusEnum.ACCEPTED), any())).willReturn(1);
 
         //when
         OrderResponseDto response = orderService.updateOrderStatus(username, request);
@@ -305,6 +370,38 @@ class OrderServiceTest {
         assertEquals(orderId, response.getOrderId());
     }
 
+    @Test
+    @DisplayName("주문 상태 수정 실패 : 조회 후 다른 요청이 먼저 상태를 바꾼 경우 409")
+    void updateOrderStatus_fail_conflict() {
+        //given
+        UUID orderId = UUID.randomUUID();
+        User user = User.builder()
+                .username("owner")
+                .role(UserRoleEnum.OWNER)
+                .build();
+        Store store = Store.builder()
+                .storeId(UUID.randomUUID())
+                .user(user)
+                .build();
+        Order order = Order.builder()
+                .id(orderId)
+                .user(user)
+                .store(store)
+                .status(OrderStatusEnum.PENDING)
+                .build();
+        OrderUpdateRequestDto request = new OrderUpdateRequestDto(orderId, OrderStatusEnum.ACCEPTED);
+
+        given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
+        given(orderRepository.findById(any())).willReturn(Optional.ofNullable(order));
+        given(orderRepository.updateStatusIfIn(any(), any(), any(), any())).willReturn(0);
+
+        //when & then
+        Exception exception = assertThrows(OrderStatusConflictException.class,
+                () -> orderService.updateOrderStatus("owner", request));
+        assertEquals(OrderExceptionMessage.ORDER_STATUS_CONFLICT.getMessage(), exception.getMessage());
+        assertEquals(OrderStatusEnum.PENDING, order.getStatus());
+    }
+
     @Test
     @DisplayName("주문 상태 수정 실패1 : 유저가 없는 경우")
     void updateOrderStatus_fail1() {
@@ -430,10 +527,10 @@ class OrderServiceTest {
 
         given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
         given(orderRepository.findById(any())).willReturn(Optional.ofNullable(order));
-        when(orderProductRepository.findAllByOrderAndNotDeleted(any())).thenReturn(List.of(orderProduct));
+        when(orderProductRepository.findAllWithProductByOrderAndNotDeleted(any())).thenReturn(List.of(orderProduct));
         when(basketRepository.save(any())).thenReturn(Optional.ofNullable(basket));
         doNothing().when(orderProductRepository).deleteAll(any());
-        doNothing().when(orderRepository).delete(any());
+        doNothing().when(orderRepository).delete(any(Order.class));
 
         //when
         assert order != null;
@@ -546,4 +643,34 @@ class OrderServiceTest {
                 () -> orderService.deleteOrder(username, orderId));
         assertEquals(OrderExceptionMessage.ORDER_UNABLE_DELETE_STATUS.getMessage(), exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("주문 목록 조회 실패 : 허용되지 않은 정렬 기준인 경우")
+    void getOrders_fail_invalidSortKey() {
+        //given
+        String username = "user1";
+        User user = User.builder()
+                .username(username)
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+
+        given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
+
+        //when & then
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.getOrders(username, 0, 10, "totalPrice", false));
+        assertEquals(ExceptionMessage.INVALID_SORT_KEY.getMessage(), exception.getMessage());
+    }
+
+    private static Order completedOrder(User user) {
+        return Order.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .store(Store.builder().storeId(UUID.randomUUID()).build())
+                .status(OrderStatusEnum.COMPLETED)
+                .discountAmount(0)
+                .discountRate(0)
+                .finalPay(10000)
+                .build();
+    }
+}
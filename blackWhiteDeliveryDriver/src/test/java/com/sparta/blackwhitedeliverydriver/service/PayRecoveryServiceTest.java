@@ -0,0 +1,111 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.Amount;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.feed.OrderFeedHub;
+import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.PayRepository;
+import com.sparta.blackwhitedeliverydriver.repository.RefundJobRepository;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PayRecoveryServiceTest {
+    PayRecoveryService payRecoveryService;
+
+    PayRepository payRepository = mock(PayRepository.class);
+    RefundJobRepository refundJobRepository = mock(RefundJobRepository.class);
+    KakaoPayClient kakaoPayClient = mock(KakaoPayClient.class);
+    PayUtil payUtil = mock(PayUtil.class);
+    OrderRepository orderRepository = mock(OrderRepository.class);
+
+    @BeforeEach
+    public void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        payRecoveryService = new PayRecoveryService(payRepository, refundJobRepository, kakaoPayClient, payUtil,
+                transactionTemplate, new OrderStateMachine(orderRepository, mock(OrderFeedHub.class)), 60);
+        given(orderRepository.updateStatusIfIn(any(), any(), any(), any())).willReturn(1);
+    }
+
+    @Test
+    @DisplayName("승인 요청 중 응답을 받지 못한 결제 - 카카오페이에서 승인되었으면 결제 완료로 복구")
+    void recover_approving_success() {
+        //given
+        String tid = "tid";
+        Order order = Order.builder()
+                .id(UUID.randomUUID())
+                .status(OrderStatusEnum.CREATE)
+                .finalPay(10000)
+                .build();
+        Pay pay = Pay.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .tid(tid)
+                .payStatus(PayStatusEnum.APPROVING)
+                .build();
+        Amount amount = mock(Amount.class);
+        given(amount.getTotal()).willReturn(10000);
+        PayOrderResponseDto orderResponse = mock(PayOrderResponseDto.class);
+        given(orderResponse.getTid()).willReturn(tid);
+        given(orderResponse.getStatus()).willReturn(PayOrderResponseDto.SUCCESS_PAYMENT);
+        given(orderResponse.getItem_name()).willReturn(Pay.ITEM_NAME);
+        given(orderResponse.getAmount()).willReturn(amount);
+        given(orderResponse.getApproved_at()).willReturn("2024-10-18T12:00:00");
+
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+        given(payRepository.findById(pay.getId())).willReturn(Optional.of(pay));
+
+        //when
+        payRecoveryService.recover(pay);
+
+        //then
+        assertEquals(PayStatusEnum.SUCCESS, pay.getPayStatus());
+        assertEquals(10000, pay.getPayAmount());
+        assertEquals(OrderStatusEnum.PENDING, order.getStatus());
+    }
+
+    @Test
+    @DisplayName("환불 요청 중 응답을 받지 못한 결제 - 카카오페이에서 취소되지 않았으면 결제 완료로 되돌림")
+    void recover_refunding_notCanceled() {
+        //given
+        String tid = "tid";
+        Order order = Order.builder()
+                .id(UUID.randomUUID())
+                .status(OrderStatusEnum.PENDING)
+                .build();
+        Pay pay = Pay.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .tid(tid)
+                .payStatus(PayStatusEnum.REFUNDING)
+                .build();
+        PayOrderResponseDto orderResponse = mock(PayOrderResponseDto.class);
+        given(orderResponse.getTid()).willReturn(tid);
+        given(orderResponse.getStatus()).willReturn(PayOrderResponseDto.SUCCESS_PAYMENT);
+
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+        given(payRepository.findById(pay.getId())).willReturn(Optional.of(pay));
+
+        //when
+        payRecoveryService.recover(pay);
+
+        //then
+        assertEquals(PayStatusEnum.SUCCESS, pay.getPayStatus());
+        assertEquals(OrderStatusEnum.PENDING, order.getStatus());
+    }
+}
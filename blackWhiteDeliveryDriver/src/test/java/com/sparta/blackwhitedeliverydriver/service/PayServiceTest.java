@@ -0,0 +1,144 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sparta.blackwhitedeliverydriver.cache.DetailResponseCache;
+import com.sparta.blackwhitedeliverydriver.cache.UserCache;
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.PayRefundRequestDto;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.feed.OrderFeedHub;
+import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.PayRepository;
+import com.sparta.blackwhitedeliverydriver.repository.RefundJobRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
+import com.sparta.blackwhitedeliverydriver.util.HttpUtil;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+class PayServiceTest {
+    PayService payService;
+
+    UserRepository userRepository = mock(UserRepository.class);
+    OrderRepository orderRepository = mock(OrderRepository.class);
+    PayRepository payRepository = mock(PayRepository.class);
+    KakaoPayClient kakaoPayClient = mock(KakaoPayClient.class);
+
+    User user;
+    Order order;
+    Pay pay;
+
+    @BeforeEach
+    public void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        payService = new PayService(userRepository, orderRepository, payRepository, mock(RefundJobRepository.class),
+                mock(StoreNameIndex.class), mock(UserCache.class),
+                new OrderStateMachine(orderRepository, mock(OrderFeedHub.class)), mock(DetailResponseCache.class),
+                mock(PayUtil.class), mock(HttpUtil.class), kakaoPayClient, transactionTemplate);
+
+        user = User.builder()
+                .username("user")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        order = Order.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .finalPay(10000)
+                .build();
+        pay = Pay.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .tid("tid")
+                .payAmount(10000)
+                .build();
+        given(userRepository.findById(user.getUsername())).willReturn(Optional.of(user));
+        given(orderRepository.findByTid("tid")).willReturn(Optional.of(order));
+        given(orderRepository.findById(order.getId())).willReturn(Optional.of(order));
+        given(payRepository.findByOrder(order)).willReturn(Optional.of(pay));
+        given(payRepository.findById(pay.getId())).willReturn(Optional.of(pay));
+    }
+
+    @Test
+    @DisplayName("결제 승인 - 카카오페이가 거절(4xx)하면 실패로 확정")
+    void approvePay_clientError() {
+        //given
+        order.updateStatus(OrderStatusEnum.CREATE);
+        pay.fail();
+        given(kakaoPayClient.approve(any())).willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        //when
+        assertThrows(HttpClientErrorException.class, () -> payService.approvePay(user.getUsername(), "token", "tid"));
+
+        //then
+        assertEquals(PayStatusEnum.FAILED, pay.getPayStatus());
+    }
+
+    @Test
+    @DisplayName("결제 승인 - 카카오페이 서버 오류(5xx)는 결과를 모르므로 승인 중 상태로 두고 복구 작업에 맡김")
+    void approvePay_serverError() {
+        //given
+        order.updateStatus(OrderStatusEnum.CREATE);
+        pay.fail();
+        given(kakaoPayClient.approve(any())).willThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+        //when
+        assertThrows(HttpServerErrorException.class, () -> payService.approvePay(user.getUsername(), "token", "tid"));
+
+        //then
+        assertEquals(PayStatusEnum.APPROVING, pay.getPayStatus());
+        assertEquals(OrderStatusEnum.CREATE, order.getStatus());
+    }
+
+    @Test
+    @DisplayName("결제 환불 - 카카오페이가 거절(4xx)하면 결제 완료 상태로 되돌림")
+    void refundPayment_clientError() {
+        //given
+        order.updateStatus(OrderStatusEnum.PENDING);
+        pay.approve(Pay.ITEM_NAME, 10000, LocalDateTime.now().toString());
+        given(kakaoPayClient.cancel(any())).willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        //when
+        assertThrows(HttpClientErrorException.class,
+                () -> payService.refundPayment(user.getUsername(), new PayRefundRequestDto(order.getId())));
+
+        //then
+        assertEquals(PayStatusEnum.SUCCESS, pay.getPayStatus());
+    }
+
+    @Test
+    @DisplayName("결제 환불 - 카카오페이 서버 오류(5xx)는 결과를 모르므로 환불 중 상태로 두고 복구 작업에 맡김")
+    void refundPayment_serverError() {
+        //given
+        order.updateStatus(OrderStatusEnum.PENDING);
+        pay.approve(Pay.ITEM_NAME, 10000, LocalDateTime.now().toString());
+        given(kakaoPayClient.cancel(any())).willThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        //when
+        assertThrows(HttpServerErrorException.class,
+                () -> payService.refundPayment(user.getUsername(), new PayRefundRequestDto(order.getId())));
+
+        //then
+        assertEquals(PayStatusEnum.REFUNDING, pay.getPayStatus());
+        assertEquals(OrderStatusEnum.PENDING, order.getStatus());
+    }
+}
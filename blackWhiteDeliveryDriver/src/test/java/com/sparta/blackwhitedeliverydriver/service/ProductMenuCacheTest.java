@@ -0,0 +1,106 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.blackwhitedeliverydriver.cache.MenuCache;
+import com.sparta.blackwhitedeliverydriver.config.JpaConfig;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 메뉴 조회 캐시가 메뉴 버전 단위로 재사용되고, 음식이 바뀌면 새 응답을 만드는지 확인 (내장 H2 DB 사용)
+@DataJpaTest
+@Import({ProductService.class, MenuCache.class, SimpleMeterRegistry.class, JpaConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.profiles.active=test")
+class ProductMenuCacheTest {
+
+    @Autowired
+    ProductService productService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    ProductRepository productRepository;
+
+    @Test
+    @DisplayName("메뉴 조회 - 음식 삭제 전에는 캐시된 응답, 삭제 후에는 메뉴 버전이 올라 새 응답")
+    void getProductsResponse_menuVersion() {
+        //given
+        User owner = userRepository.save(User.builder()
+                .username("owner")
+                .email("owner@test.com")
+                .password("password")
+                .phoneNumber("owner")
+                .role(UserRoleEnum.OWNER)
+                .publicProfile(true)
+                .build());
+        Store store = storeRepository.save(store(owner));
+        Product product = productRepository.save(Product.builder()
+                .name("product")
+                .price(5000)
+                .isPublic(true)
+                .imgUrl("img")
+                .productIntro("intro")
+                .store(store)
+                .build());
+
+        //when
+        MenuCache.Entry first = productService.getProductsResponse(store.getStoreId(), 0, 10, "createdDate", true);
+        MenuCache.Entry cached = productService.getProductsResponse(store.getStoreId(), 0, 10, "createdDate", true);
+        productService.deleteProduct(product.getProductId(), new UserDetailsImpl(owner));
+        MenuCache.Entry changed = productService.getProductsResponse(store.getStoreId(), 0, 10, "createdDate", true);
+
+        //then
+        assertSame(first, cached);
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"product\""));
+        assertEquals(1L, storeRepository.findMenuVersionById(store.getStoreId()).orElseThrow());
+        assertNotEquals(first.etag(), changed.etag());
+        assertFalse(new String(changed.body(), StandardCharsets.UTF_8).contains("\"product\""));
+    }
+
+    private static Store store(User owner) {
+        return Store.builder()
+                .storeName("store")
+                .phoneNumber("010")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .rating(0)
+                .reviewCnt(0)
+                .zipNum("00000")
+                .city("city")
+                .district("district")
+                .streetName("street")
+                .streetNumber("1")
+                .detailAddr("detail")
+                .storeIntro("intro")
+                .isPublic(true)
+                .user(owner)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto.CanceledAmount;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.RefundJob;
+import com.sparta.blackwhitedeliverydriver.entity.RefundJobStatusEnum;
+import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.feed.OrderFeedHub;
+import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.RefundJobRepository;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpServerErrorException;
+
+class RefundJobServiceTest {
+    RefundJobService refundJobService;
+
+    RefundJobRepository refundJobRepository = mock(RefundJobRepository.class);
+    KakaoPayClient kakaoPayClient = mock(KakaoPayClient.class);
+    PayUtil payUtil = mock(PayUtil.class);
+    OrderRepository orderRepository = mock(OrderRepository.class);
+
+    @BeforeEach
+    public void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        given(orderRepository.updateStatusIfIn(any(), any(), any(), any())).willReturn(1);
+        refundJobService = new RefundJobService(refundJobRepository, kakaoPayClient, payUtil, transactionTemplate,
+                new OrderStateMachine(orderRepository, mock(OrderFeedHub.class)), mock(ThreadPoolTaskExecutor.class), new SimpleMeterRegistry(), 50, 3, 1000, 300000, 300);
+    }
+
+    @Test
+    @DisplayName("환불 작업 처리 성공 - 주문 취소, 결제 환불 완료")
+    void process_success() {
+        //given
+        RefundJob job = processingJob();
+        CanceledAmount canceledAmount = mock(CanceledAmount.class);
+        given(canceledAmount.getTotal()).willReturn(10000);
+        PayCancelResponseDto cancelResponse = mock(PayCancelResponseDto.class);
+        given(cancelResponse.getCanceled_amount()).willReturn(canceledAmount);
+        given(cancelResponse.getCanceled_at()).willReturn("2024-10-18T12:00:00");
+
+        given(refundJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(kakaoPayClient.cancel(any())).willReturn(cancelResponse);
+
+        //when
+        refundJobService.process(job.getId());
+
+        //then
+        assertEquals(RefundJobStatusEnum.SUCCEEDED, job.getStatus());
+        assertEquals(PayStatusEnum.REFUND, job.getPay().getPayStatus());
+        assertEquals(10000, job.getPay().getRefundAmount());
+        assertEquals(OrderStatusEnum.CANCEL, job.getPay().getOrder().getStatus());
+    }
+
+    @Test
+    @DisplayName("환불 작업 처리 실패 - 대기 상태로 돌리고 다음 시도 시각을 미룸")
+    void process_fail_retry() {
+        //given
+        RefundJob job = processingJob();
+        given(refundJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(kakaoPayClient.cancel(any())).willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        //when
+        refundJobService.process(job.getId());
+
+        //then
+        assertEquals(RefundJobStatusEnum.PENDING, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertTrue(job.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(PayStatusEnum.REFUNDING, job.getPay().getPayStatus());
+        assertEquals(OrderStatusEnum.REJECTED, job.getPay().getOrder().getStatus());
+    }
+
+    @Test
+    @DisplayName("취소 후 주문/결제 반영 실패 - 재시도하고, 횟수를 넘기면 실패로 남김")
+    void process_completeFail() {
+        //given
+        RefundJob job = processingJob();
+        CanceledAmount canceledAmount = mock(CanceledAmount.class);
+        given(canceledAmount.getTotal()).willReturn(10000);
+        PayCancelResponseDto cancelResponse = mock(PayCancelResponseDto.class);
+        given(cancelResponse.getCanceled_amount()).willReturn(canceledAmount);
+        given(cancelResponse.getCanceled_at()).willReturn("2024-10-18T12:00:00");
+        PayOrderResponseDto orderResponse = mock(PayOrderResponseDto.class);
+        given(orderResponse.getStatus()).willReturn(PayOrderResponseDto.CANCEL_PAYMENT);
+        given(orderResponse.getCanceled_amount()).willReturn(canceledAmount);
+        given(orderResponse.getCanceled_at()).willReturn("2024-10-18T12:00:00");
+
+        given(refundJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+        given(kakaoPayClient.cancel(any())).willReturn(cancelResponse);
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+        // 다른 요청이 먼저 주문 상태를 바꿔 조건부 UPDATE 가 반영되지 않음
+        given(orderRepository.updateStatusIfIn(any(), any(), any(), any())).willReturn(0);
+
+        //when
+        refundJobService.process(job.getId());
+        RefundJobStatusEnum firstStatus = job.getStatus();
+        // 최대 시도 횟수(3)까지 다시 가져와 처리
+        job.start();
+        refundJobService.process(job.getId());
+        job.start();
+        refundJobService.process(job.getId());
+
+        //then
+        assertEquals(RefundJobStatusEnum.PENDING, firstStatus);
+        assertEquals(RefundJobStatusEnum.FAILED, job.getStatus());
+        assertEquals(3, job.getAttempts());
+        assertEquals(OrderExceptionMessage.ORDER_STATUS_CONFLICT.getMessage(), job.getLastError());
+        assertEquals(PayStatusEnum.REFUNDING, job.getPay().getPayStatus());
+    }
+
+    private RefundJob processingJob() {
+        Order order = Order.builder()
+                .id(UUID.randomUUID())
+                .status(OrderStatusEnum.REJECTED)
+                .build();
+        Pay pay = Pay.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .tid("tid")
+                .payAmount(10000)
+                .payStatus(PayStatusEnum.REFUNDING)
+                .build();
+        RefundJob job = RefundJob.builder()
+                .id(UUID.randomUUID())
+                .pay(pay)
+                .status(RefundJobStatusEnum.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        job.start();
+        return job;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.cache.CategoryCache;
+import com.sparta.blackwhitedeliverydriver.entity.Category;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
+import com.sparta.blackwhitedeliverydriver.entity.StoreFront;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreFrontRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class StoreFrontServiceTest {
+    StoreFrontService storeFrontService;
+    StoreFrontRepository storeFrontRepository = mock(StoreFrontRepository.class);
+    StoreRepository storeRepository = mock(StoreRepository.class);
+    StoreCategoryRepository storeCategoryRepository = mock(StoreCategoryRepository.class);
+    CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    Category korean = Category.builder().categoryId(UUID.randomUUID()).name("한식").build();
+
+    @BeforeEach
+    public void setUp() {
+        given(categoryRepository.findAll()).willReturn(List.of(korean));
+        CategoryCache categoryCache = new CategoryCache(categoryRepository, new SimpleMeterRegistry());
+        categoryCache.load();
+        storeFrontService = new StoreFrontService(storeFrontRepository, storeRepository, storeCategoryRepository,
+                categoryCache);
+    }
+
+    @Test
+    @DisplayName("점포 변경 시 카테고리 이름과 평균 평점을 계산해 읽기 모델 저장")
+    void refresh_success() {
+        //given
+        Store store = createStore();
+        given(storeCategoryRepository.findAllByStoreStoreId(store.getStoreId()))
+                .willReturn(List.of(StoreCategory.from(store, korean)));
+        given(storeFrontRepository.findById(store.getStoreId())).willReturn(Optional.empty());
+
+        //when
+        storeFrontService.refresh(store);
+
+        //then
+        ArgumentCaptor<StoreFront> captor = ArgumentCaptor.forClass(StoreFront.class);
+        verify(storeFrontRepository).save(captor.capture());
+        StoreFront storeFront = captor.getValue();
+        assertEquals(store.getStoreId(), storeFront.getStoreId());
+        assertEquals("한식", storeFront.getCategory());
+        assertEquals(4.5, storeFront.getAvgRating());
+        assertEquals("owner", storeFront.getUsername());
+    }
+
+    @Test
+    @DisplayName("삭제된 점포는 읽기 모델에서 제거")
+    void refresh_deletedStore() {
+        //given
+        Store store = createStore();
+        store.setDeletedDate(LocalDateTime.now());
+        given(storeFrontRepository.existsById(store.getStoreId())).willReturn(true);
+
+        //when
+        storeFrontService.refresh(store);
+
+        //then
+        verify(storeFrontRepository).deleteById(store.getStoreId());
+        verify(storeFrontRepository, never()).save(any());
+    }
+
+    private Store createStore() {
+        return Store.builder()
+                .storeId(UUID.randomUUID())
+                .storeName("store")
+                .rating(9)
+                .reviewCnt(2)
+                .isPublic(true)
+                .user(User.builder().username("owner").build())
+                .build();
+    }
+}
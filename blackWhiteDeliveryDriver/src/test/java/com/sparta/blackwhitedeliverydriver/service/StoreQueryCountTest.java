@@ -0,0 +1,172 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.blackwhitedeliverydriver.cache.CategoryCache;
+import com.sparta.blackwhitedeliverydriver.config.JpaConfig;
+import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Category;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+// 점포 목록/검색/단건 조회가 점포 수, 카테고리 수와 무관하게 정해진 쿼리 수로 끝나는지 확인 (내장 H2 DB 사용)
+@DataJpaTest
+@Import({StoreService.class, StoreFrontService.class, CategoryCache.class, StoreNameIndex.class,
+        SimpleMeterRegistry.class, JpaConfig.class})
+@TestPropertySource(properties = {"spring.profiles.active=test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class StoreQueryCountTest {
+    static final int STORES = 50;
+    static final int CATEGORIES = 5;
+    // PagingPolicy 가 허용하는 가장 작은 페이지 크기
+    static final int SMALL_PAGE = 10;
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    StoreService storeService;
+    @Autowired
+    StoreFrontService storeFrontService;
+    @Autowired
+    CategoryCache categoryCache;
+    @Autowired
+    StoreNameIndex storeNameIndex;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    StoreCategoryRepository storeCategoryRepository;
+
+    User owner;
+    List<Store> stores = new ArrayList<>();
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .username("owner")
+                .email("owner@test.com")
+                .password("password")
+                .phoneNumber("owner")
+                .role(UserRoleEnum.OWNER)
+                .publicProfile(true)
+                .build());
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(categoryRepository.save(Category.from("category" + i)));
+        }
+        // i 번째 점포는 카테고리 (i % CATEGORIES) + 1 개
+        for (int i = 0; i < STORES; i++) {
+            Store store = storeRepository.save(store("store" + i));
+            for (Category category : categories.subList(0, i % CATEGORIES + 1)) {
+                storeCategoryRepository.save(StoreCategory.from(store, category));
+            }
+            stores.add(store);
+        }
+        categoryCache.reload();
+        storeFrontService.rebuildIfEmpty();
+        storeNameIndex.reload();
+
+        // 영속성 컨텍스트를 비워 실제 조회 쿼리만 집계
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("점포 목록 - 10개, 50개 페이지의 쿼리 수가 같음")
+    void getStores() {
+        long small = count(() -> storeService.getStores(0, SMALL_PAGE, "createdDate", true), SMALL_PAGE);
+        long large = count(() -> storeService.getStores(0, STORES, "createdDate", true), STORES);
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName("점포 이름 검색 - 10개, 50개 페이지의 쿼리 수가 같음")
+    void searchStores() {
+        long small = count(() -> storeService.searchStores("store", 0, SMALL_PAGE, "createdDate", true), SMALL_PAGE);
+        long large = count(() -> storeService.searchStores("store", 0, STORES, "createdDate", true), STORES);
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName("점주의 점포 목록 - 10개, 50개 페이지의 쿼리 수가 같음")
+    void getStoresOfOwner() {
+        long small = count(() -> storeService.getStoresOfOwner(owner, 0, SMALL_PAGE, "createdDate", true), SMALL_PAGE);
+        long large = count(() -> storeService.getStoresOfOwner(owner, 0, STORES, "createdDate", true), STORES);
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName("점포 단건 조회 - 카테고리 1개, 5개 점포의 쿼리 수가 같음")
+    void getStore() {
+        Store oneCategory = stores.get(0);
+        Store allCategories = stores.get(CATEGORIES - 1);
+
+        long small = count(() -> List.of(storeService.getStore(false, false, oneCategory.getStoreId())), 1);
+        long large = count(() -> List.of(storeService.getStore(false, false, allCategories.getStoreId())), 1);
+
+        assertEquals(small, large);
+        assertEquals(2, large);
+    }
+
+    // 조회 한 번에 실행된 SQL 수
+    private long count(Supplier<List<StoreResponseDto>> query, int expectedSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<StoreResponseDto> result = query.get();
+
+        assertEquals(expectedSize, result.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Store store(String storeName) {
+        return Store.builder()
+                .storeName(storeName)
+                .phoneNumber("010")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .rating(0)
+                .reviewCnt(0)
+                .zipNum("00000")
+                .city("city")
+                .district("district")
+                .streetName("street")
+                .streetNumber("1")
+                .detailAddr("detail")
+                .storeIntro("intro")
+                .isPublic(true)
+                .user(owner)
+                .build();
+    }
+}
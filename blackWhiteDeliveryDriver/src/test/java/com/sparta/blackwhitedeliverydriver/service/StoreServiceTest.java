@@ -0,0 +1,141 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.sparta.blackwhitedeliverydriver.cache.CategoryCache;
+import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Category;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
+import com.sparta.blackwhitedeliverydriver.entity.StoreFront;
+import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreFrontRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.search.StoreNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+class StoreServiceTest {
+    StoreService storeService;
+    StoreRepository storeRepository = mock(StoreRepository.class);
+    StoreCategoryRepository storeCategoryRepository = mock(StoreCategoryRepository.class);
+    CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    UserRepository userRepository = mock(UserRepository.class);
+    StoreFrontRepository storeFrontRepository = mock(StoreFrontRepository.class);
+    StoreFrontService storeFrontService = mock(StoreFrontService.class);
+    StoreNameIndex storeNameIndex = mock(StoreNameIndex.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CategoryCache categoryCache = new CategoryCache(categoryRepository, meterRegistry);
+    Category korean = Category.builder().categoryId(UUID.randomUUID()).name("한식").build();
+    Category chicken = Category.builder().categoryId(UUID.randomUUID()).name("치킨").build();
+
+    @BeforeEach
+    public void setUp() {
+        given(categoryRepository.findAll()).willReturn(List.of(korean, chicken));
+        categoryCache.load();
+        storeService = new StoreService(storeRepository, storeCategoryRepository, categoryRepository, userRepository,
+                storeFrontRepository, categoryCache, storeFrontService, storeNameIndex);
+    }
+
+    @Test
+    @DisplayName("점포 목록 조회는 점포 수와 무관하게 읽기 모델 한 번만 조회")
+    void getStores_readsStoreFrontOnly() {
+        //given
+        List<StoreFront> oneStore = createStoreFronts(1);
+        List<StoreFront> fiftyStores = createStoreFronts(50);
+
+        given(storeFrontRepository.findAllByIsPublicTrue(any(Pageable.class)))
+                .willReturn(new PageImpl<>(oneStore))
+                .willReturn(new PageImpl<>(fiftyStores));
+
+        //when
+        List<StoreResponseDto> onePage = storeService.getStores(0, 10, "createdDate", true);
+        List<StoreResponseDto> fiftyPage = storeService.getStores(0, 50, "createdDate", true);
+
+        //then
+        assertEquals(1, onePage.size());
+        assertEquals(50, fiftyPage.size());
+        assertEquals("한식, 치킨", fiftyPage.get(49).getCategory());
+        assertEquals(4.5, fiftyPage.get(49).getAvgRating());
+        verify(storeFrontRepository, times(2)).findAllByIsPublicTrue(any(Pageable.class));
+        verifyNoMoreInteractions(storeFrontRepository);
+        verifyNoInteractions(storeRepository, storeCategoryRepository);
+    }
+
+    @Test
+    @DisplayName("단건 점포 조회 시 카테고리 이름은 캐시에서 조회")
+    void getStore_categoryNamesFromCache() {
+        //given
+        Store store = createStores(1).get(0);
+        given(storeRepository.findById(store.getStoreId())).willReturn(Optional.of(store));
+        given(storeCategoryRepository.findAllByStoreStoreIdIn(anyCollection()))
+                .willReturn(createStoreCategories(List.of(store), korean, chicken));
+
+        //when
+        StoreResponseDto responseDto = storeService.getStore(false, false, store.getStoreId());
+
+        //then
+        assertEquals("한식, 치킨", responseDto.getCategory());
+        verify(storeCategoryRepository, times(1)).findAllByStoreStoreIdIn(anyCollection());
+        verify(categoryRepository, times(1)).findAll();
+        verifyNoMoreInteractions(storeCategoryRepository, categoryRepository);
+        assertEquals(2, meterRegistry.get("category.cache").tag("result", "hit").counter().count());
+    }
+
+    private List<StoreFront> createStoreFronts(int count) {
+        List<StoreFront> storeFronts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            storeFronts.add(StoreFront.builder()
+                    .storeId(UUID.randomUUID())
+                    .storeName("store" + i)
+                    .category("한식, 치킨")
+                    .rating(9)
+                    .reviewCnt(2)
+                    .avgRating(4.5)
+                    .isPublic(true)
+                    .build());
+        }
+        return storeFronts;
+    }
+
+    private List<Store> createStores(int count) {
+        List<Store> stores = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            stores.add(Store.builder()
+                    .storeId(UUID.randomUUID())
+                    .storeName("store" + i)
+                    .rating(0)
+                    .reviewCnt(1)
+                    .build());
+        }
+        return stores;
+    }
+
+    private List<StoreCategory> createStoreCategories(List<Store> stores, Category... categories) {
+        List<StoreCategory> storeCategories = new ArrayList<>();
+        for (Store store : stores) {
+            for (Category category : categories) {
+                storeCategories.add(StoreCategory.from(store, category));
+            }
+        }
+        return storeCategories;
+    }
+}
@@ -0,0 +1,21 @@
+-- 기존(APPROVING 등 추가 전) Pay 엔티티로 Hibernate 가 PostgreSQL 에 만든 p_pay
+-- PostgreSQL 은 컬럼 검사 제약에 p_pay_pay_status_check 이름을 붙이므로 같은 이름으로 선언
+create table p_pay (
+    pay_amount integer not null,
+    refund_amount integer,
+    approved_at timestamp(6),
+    canceled_at timestamp(6),
+    created_date timestamp(6),
+    deleted_date timestamp(6),
+    last_modified_date timestamp(6),
+    id uuid not null,
+    order_id uuid unique,
+    created_by varchar(255),
+    deleted_by varchar(255),
+    item_name varchar(255) not null,
+    last_modified_by varchar(255),
+    pay_status varchar(255) not null,
+    tid varchar(255) not null,
+    primary key (id),
+    constraint p_pay_pay_status_check check (pay_status in ('SUCCESS','REFUND'))
+);